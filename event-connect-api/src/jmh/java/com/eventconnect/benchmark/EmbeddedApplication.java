@@ -0,0 +1,74 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.EventConnectApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The full application on an embedded PostgreSQL, for benchmarks whose cost is mostly the database.
+ */
+final class EmbeddedApplication implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApplication(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    static EmbeddedApplication start(Map<String, Object> overrides) throws IOException {
+        return start(EmbeddedPostgres.builder().start(), overrides);
+    }
+
+    // Keeps the database under target/benchmark-db/<name> between runs, so an expensive seed is paid once
+    // per data set rather than once per benchmark fork
+    static EmbeddedApplication startPersistent(String name, Map<String, Object> overrides) throws IOException {
+        File dataDirectory = new File("target/benchmark-db", name);
+        dataDirectory.mkdirs();
+        return start(EmbeddedPostgres.builder()
+                .setDataDirectory(dataDirectory)
+                .setCleanDataDirectory(false)
+                .start(), overrides);
+    }
+
+    private static EmbeddedApplication start(EmbeddedPostgres postgres, Map<String, Object> overrides)
+            throws IOException {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("jwt.secret", Fixtures.JWT_SECRET);
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        properties.putAll(overrides);
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        try {
+            return new EmbeddedApplication(postgres, new SpringApplicationBuilder(EventConnectApplication.class).run(args));
+        } catch (RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
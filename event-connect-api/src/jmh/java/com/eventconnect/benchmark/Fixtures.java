@@ -0,0 +1,48 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.entity.Booking;
+import com.eventconnect.entity.BookingStatus;
+import com.eventconnect.entity.Event;
+import com.eventconnect.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmarkSecretKeyForJWTTokenGenerationEventConnectThatIsLongEnough1234";
+
+    private Fixtures() {
+    }
+
+    static Event event(long id) {
+        return Event.builder()
+                .id(id)
+                .title("Coldplay: Music of the Spheres World Tour " + id)
+                .description("Experience the magic of Coldplay live with their spectacular Music of the Spheres " +
+                        "World Tour, featuring hits from across their career and a stunning light show.")
+                .date(LocalDate.of(2025, 1, 15).plusDays(id % 365))
+                .time(LocalTime.of(19, 0))
+                .location("DY Patil Stadium, Mumbai")
+                .totalTickets(50000)
+                .availableTickets(45000)
+                .price(new BigDecimal("4999.00"))
+                .imageUrl("https://images.unsplash.com/photo-1540039155733-5bb30b53aa14?w=800")
+                .category("Music")
+                .build();
+    }
+
+    static Booking booking(long id, Event event) {
+        return Booking.builder()
+                .id(id)
+                .user(User.builder().id(id).email("user" + id + "@example.com").name("User " + id).build())
+                .event(event)
+                .bookingDate(LocalDateTime.of(2024, 12, 1, 10, 30))
+                .quantity(2)
+                .totalPrice(event.getPrice().multiply(BigDecimal.valueOf(2)))
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.config.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final long EXPIRATION_MILLIS = 86_400_000L;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(Fixtures.JWT_SECRET, EXPIRATION_MILLIS, 100_000);
+        // A zero-sized cache verifies the signature on every call
+        uncachedJwtUtil = new JwtUtil(Fixtures.JWT_SECRET, EXPIRATION_MILLIS, 0);
+        token = jwtUtil.generateToken("user1@example.com", 1L, "User 1");
+        jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user1@example.com", 1L, "User 1");
+    }
+
+    @Benchmark
+    public Claims parseTokenCached() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseTokenUncached() {
+        return uncachedJwtUtil.parseToken(token);
+    }
+}
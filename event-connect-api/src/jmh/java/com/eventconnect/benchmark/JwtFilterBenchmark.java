@@ -0,0 +1,128 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.config.JwtAuthenticationFilter;
+import com.eventconnect.config.JwtUtil;
+import com.eventconnect.config.PrincipalMode;
+import com.eventconnect.entity.User;
+import com.eventconnect.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the bearer-token filter: token verification, user lookup and principal construction,
+ * against a real database. "BASELINE" is the filter as it was before token parsing was reworked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final long EXPIRATION_MILLIS = 86_400_000L;
+    private static final String EMAIL = "filter-bench@example.com";
+
+    @Param({"BASELINE", "DATABASE", "CACHED", "CLAIMS"})
+    private String principal;
+
+    private EmbeddedApplication application;
+    private Filter filter;
+    private String authorization;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() throws Exception {
+        application = EmbeddedApplication.start(Map.of());
+        UserRepository userRepository = application.bean(UserRepository.class);
+        User user = userRepository.save(User.builder().email(EMAIL).name("Filter Bench").passwordHash("x").build());
+
+        JwtUtil jwtUtil = new JwtUtil(Fixtures.JWT_SECRET, EXPIRATION_MILLIS, 100_000);
+        authorization = "Bearer " + jwtUtil.generateToken(EMAIL, user.getId(), user.getName());
+        filter = principal.equals("BASELINE")
+                ? new BaselineFilter(userRepository)
+                : new JwtAuthenticationFilter(jwtUtil, userRepository, new SimpleMeterRegistry(),
+                        application.bean(PlatformTransactionManager.class), PrincipalMode.valueOf(principal),
+                        10_000, Duration.ofMinutes(5));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        application.close();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/me");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null) {
+                throw new IllegalStateException("Request was not authenticated");
+            }
+            return authentication;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // The original filter: a new key and parser per parse, three parses per request and an entity load by email
+    private static final class BaselineFilter extends OncePerRequestFilter {
+
+        private final UserRepository userRepository;
+
+        private BaselineFilter(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String jwt = request.getHeader("Authorization").substring(7);
+            String email = parse(jwt).getSubject();
+            User user = userRepository.findByEmail(email).orElse(null);
+            if (user != null && parse(jwt).getSubject().equals(email) && !parse(jwt).getExpiration().before(new Date())) {
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private static Claims parse(String token) {
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.dto.EventResponse;
+import com.eventconnect.entity.Booking;
+import com.eventconnect.entity.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private Event event;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        event = Fixtures.event(1);
+        booking = Fixtures.booking(1, event);
+    }
+
+    @Benchmark
+    public EventResponse eventFromEntity() {
+        return EventResponse.fromEntity(event);
+    }
+
+    @Benchmark
+    public BookingResponse bookingFromEntity() {
+        return BookingResponse.fromEntity(booking);
+    }
+}
@@ -0,0 +1,36 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.config.RateLimitConfig;
+import com.eventconnect.config.RateLimitMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimitBenchmark {
+
+    // A few hot users hammering the same buckets, and many users spread across the table
+    @Param({"16", "1000000"})
+    private int users;
+
+    private RateLimitConfig rateLimitConfig;
+
+    @Setup
+    public void setUp() {
+        rateLimitConfig = new RateLimitConfig(null, RateLimitMode.LOCAL, 5, Duration.ofMinutes(1), 64,
+                1, Duration.ofSeconds(1), 100_000);
+    }
+
+    @Benchmark
+    public boolean tryConsume() {
+        return rateLimitConfig.tryConsume(ThreadLocalRandom.current().nextLong(users));
+    }
+}
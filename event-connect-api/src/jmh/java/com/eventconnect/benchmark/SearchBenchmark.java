@@ -0,0 +1,106 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.dto.CursorPage;
+import com.eventconnect.dto.EventResponse;
+import com.eventconnect.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event search over a 1,000,000-event synthetic catalog: the ranked full-text search (first page and a page
+ * 200 results deep via its keyset cursor) against the substring LIKE query it replaced and against the same
+ * ranking paged by OFFSET. The catalog is seeded once into target/benchmark-db/search, which takes a few minutes;
+ * delete that directory to reseed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int EVENTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGES = 10;
+
+    // The query before full-text search: every row's title and location scanned for the substring
+    private static final String LIKE_QUERY = """
+            SELECT * FROM events
+            WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(location) LIKE LOWER(CONCAT('%', ?, '%'))
+            ORDER BY date ASC, id ASC
+            LIMIT ?
+            """;
+
+    // Ranked search paged by OFFSET, as it was before the keyset cursor
+    private static final String OFFSET_QUERY = """
+            SELECT e.* FROM events e
+            WHERE (setweight(to_tsvector('simple', coalesce(e.title, '')), 'A') ||
+                   setweight(to_tsvector('simple', coalesce(e.category, '')), 'B') ||
+                   setweight(to_tsvector('simple', coalesce(e.location, '')), 'B') ||
+                   setweight(to_tsvector('simple', coalesce(e.description, '')), 'C')) @@ to_tsquery('simple', ?)
+            ORDER BY ts_rank(setweight(to_tsvector('simple', coalesce(e.title, '')), 'A') ||
+                             setweight(to_tsvector('simple', coalesce(e.category, '')), 'B') ||
+                             setweight(to_tsvector('simple', coalesce(e.location, '')), 'B') ||
+                             setweight(to_tsvector('simple', coalesce(e.description, '')), 'C'),
+                             to_tsquery('simple', ?)) DESC, e.id ASC
+            LIMIT ? OFFSET ?
+            """;
+
+    // A common word (about 1 in 12 events), a title phrase (about 1 in 200) and an event number (a handful)
+    @Param({"thunder", "saffron derby", "777777"})
+    private String query;
+
+    private EmbeddedApplication application;
+    private EventService eventService;
+    private JdbcTemplate jdbcTemplate;
+    private String tsQuery;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        application = EmbeddedApplication.startPersistent("search", Map.of(
+                "seed.mode", "synthetic",
+                "seed.synthetic.events", EVENTS,
+                "seed.synthetic.users", 1000,
+                "seed.synthetic.bookings", 10_000));
+        eventService = application.bean(EventService.class);
+        jdbcTemplate = application.bean(JdbcTemplate.class);
+        tsQuery = String.join(" & ", List.of(query.split(" ")).stream().map(term -> term + ":*").toList());
+
+        CursorPage<EventResponse> page = eventService.searchEvents(query, null, PAGE_SIZE);
+        for (int i = 1; i < DEEP_PAGES && page.getNextCursor() != null; i++) {
+            page = eventService.searchEvents(query, page.getNextCursor(), PAGE_SIZE);
+        }
+        deepCursor = page.getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        application.close();
+    }
+
+    @Benchmark
+    public CursorPage<EventResponse> fullTextFirstPage() {
+        return eventService.searchEvents(query, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<EventResponse> fullTextDeepPage() {
+        return eventService.searchEvents(query, deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> fullTextDeepPageByOffset() {
+        return jdbcTemplate.queryForList(OFFSET_QUERY, tsQuery, tsQuery, PAGE_SIZE + 1, DEEP_PAGES * PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> likeFirstPage() {
+        return jdbcTemplate.queryForList(LIKE_QUERY, query, query, PAGE_SIZE + 1);
+    }
+}
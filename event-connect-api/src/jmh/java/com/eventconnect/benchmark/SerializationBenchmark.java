@@ -0,0 +1,42 @@
+package com.eventconnect.benchmark;
+
+import com.eventconnect.dto.ApiResponse;
+import com.eventconnect.dto.EventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    // One default page of /api/events, and the largest page allowed
+    @Param({"50", "200"})
+    private int events;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<EventResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = ApiResponse.success(LongStream.rangeClosed(1, events)
+                .mapToObj(id -> EventResponse.fromEntity(Fixtures.event(id)))
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] serializeEventPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,120 @@
+package com.eventconnect.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client over {@link HttpClient} that times every call and records it under its endpoint name.
+ */
+class ApiClient {
+
+    static final List<String> ENDPOINTS = List.of(
+            "signup", "login", "upcoming", "browse", "search", "event", "book", "my-bookings", "cancel");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private volatile boolean recording;
+
+    ApiClient(String baseUrl) {
+        this(baseUrl, ENDPOINTS);
+    }
+
+    ApiClient(String baseUrl, List<String> endpoints) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        endpoints.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build(), false);
+    }
+
+    JsonNode post(String endpoint, String path, Object body, String token, boolean rejectable) {
+        HttpRequest request = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+        return send(endpoint, request, rejectable);
+    }
+
+    JsonNode delete(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).DELETE().build(), false);
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    // Returns the parsed body of a 2xx response, or null for a rejection or error
+    private JsonNode send(String endpoint, HttpRequest request, boolean rejectable) {
+        long start = System.nanoTime();
+        EndpointStats.Outcome outcome = EndpointStats.Outcome.ERROR;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                outcome = EndpointStats.Outcome.OK;
+                body = objectMapper.readTree(response.body());
+            } else if (status == 400 && rejectable) {
+                outcome = EndpointStats.Outcome.REJECTED;
+            }
+        } catch (IOException e) {
+            // Counted as an error
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (recording) {
+            stats.get(endpoint).record(System.nanoTime() - start, outcome);
+        }
+        return body;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventconnect.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one endpoint. Rejections are expected business
+ * outcomes (sold out, rate limited); errors are server errors, unexpected statuses and I/O failures.
+ */
+class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, Outcome outcome) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        switch (outcome) {
+            case REJECTED -> rejections.increment();
+            case ERROR -> errors.increment();
+            case OK -> { }
+        }
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long rejections() {
+        return rejections.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0 : (double) errors() / count;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    enum Outcome {
+        OK, REJECTED, ERROR
+    }
+}
@@ -0,0 +1,231 @@
+package com.eventconnect.loadtest;
+
+import com.eventconnect.config.JwtUtil;
+import com.eventconnect.service.TicketInventory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flash-sale scenario: every buyer tries to book {@code loadtest.flash-sale.quantity} tickets of the same event
+ * at once, with at most {@code loadtest.flash-sale.concurrency} buyers in flight. Under queued admission a
+ * buyer whose request is answered with a ticket polls it until the booking is confirmed or rejected. Reports
+ * how fast the event sells out and fails unless exactly the tickets sold were taken from its inventory, or
+ * when too many requests error. Embedded mode only, since buyers and the event are created directly in the
+ * database.
+ *
+ * <p>Run with {@code mvn -Pload-test -DskipTests verify -Dloadtest.scenario=flash-sale}.
+ */
+final class FlashSaleLoadTest {
+
+    static final String SCENARIO = "flash-sale";
+
+    // Every buyer is new to the auth filter's user cache; trust the token so the sale measures inventory,
+    // not a user lookup per buyer (override with -Dloadtest.app.jwt.principal-mode=cached)
+    private static final Map<String, Object> SCENARIO_PROPERTIES = Map.of("jwt.principal-mode", "claims");
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private FlashSaleLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int tickets = Integer.getInteger("loadtest.flash-sale.tickets", 1000);
+        int buyers = Integer.getInteger("loadtest.flash-sale.buyers", 2000);
+        int concurrency = Integer.getInteger("loadtest.flash-sale.concurrency", 200);
+        int quantity = Integer.getInteger("loadtest.flash-sale.quantity", 1);
+        if (!settings.embedded()) {
+            throw new IllegalStateException("The flash-sale scenario creates its buyers in the embedded database");
+        }
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().setServerConfig("max_connections", "300").start();
+             ConfigurableApplicationContext app = LoadTest.startApplication(settings, postgres, SCENARIO_PROPERTIES)) {
+            JdbcTemplate jdbc = app.getBean(JdbcTemplate.class);
+            String runId = UUID.randomUUID().toString().substring(0, 8);
+            long eventId = createEvent(jdbc, tickets);
+            List<String> tokens = createBuyers(jdbc, app.getBean(JwtUtil.class), runId, buyers);
+            ApiClient api = new ApiClient(
+                    "http://localhost:" + ((ServletWebServerApplicationContext) app).getWebServer().getPort(),
+                    List.of("book", "poll"));
+            System.out.printf("Flash sale: %d buyers of %d, %d in flight, %d tickets, %s%n",
+                    buyers, quantity, concurrency, tickets, settings.appProperties());
+
+            // Tickets sold, and each buyer's time from request to confirmation or rejection
+            AtomicInteger sold = new AtomicInteger();
+            EndpointStats purchase = new EndpointStats();
+            api.startRecording();
+            long start = System.nanoTime();
+            buy(api, tokens, eventId, quantity, concurrency, sold, purchase);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            api.stopRecording();
+
+            // Memory mode writes the event row in the background
+            app.getBean(TicketInventory.class).flush();
+            EndpointStats book = api.getStats().get("book");
+            EndpointStats poll = api.getStats().get("poll");
+            List<String> failures = checkInventory(jdbc, eventId, tickets, buyers, quantity, sold.get());
+            long requests = book.count() + poll.count();
+            long errors = book.errors() + poll.errors();
+            if (requests > 0 && (double) errors / requests > settings.maxErrorRate()) {
+                failures.add(String.format("error rate %.2f%% > %.2f%%", 100.0 * errors / requests,
+                        settings.maxErrorRate() * 100));
+            }
+            System.out.printf("%nsold %d tickets in %.2f s: %.1f tickets/s, %.1f requests/s, %d buyers turned away, " +
+                            "%d errors, %d polls, purchase p50 %.1f ms, p99 %.1f ms, max %.1f ms%n%n",
+                    sold.get(), seconds, sold.get() / seconds, requests / seconds, purchase.rejections(), errors,
+                    poll.count(), purchase.percentileMillis(50), purchase.percentileMillis(99), purchase.maxMillis());
+            writeReport(settings, tickets, buyers, quantity, concurrency, sold.get(), seconds, requests, errors,
+                    purchase, poll, failures);
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Flash sale failed:\n  " + String.join("\n  ", failures));
+            }
+            System.out.println("Flash sale passed");
+        }
+    }
+
+    private static void buy(ApiClient api, List<String> tokens, long eventId, int quantity, int concurrency,
+                            AtomicInteger sold, EndpointStats purchase) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(tokens.size());
+        Map<String, Object> request = Map.of("eventId", eventId, "quantity", quantity);
+        try (ExecutorService buyers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String token : tokens) {
+                inFlight.acquire();
+                buyers.execute(() -> {
+                    long start = System.nanoTime();
+                    boolean bought = false;
+                    try {
+                        bought = purchase(api, request, token);
+                        if (bought) {
+                            sold.addAndGet(quantity);
+                        }
+                    } finally {
+                        purchase.record(System.nanoTime() - start,
+                                bought ? EndpointStats.Outcome.OK : EndpointStats.Outcome.REJECTED);
+                        inFlight.release();
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+    }
+
+    // A queued request that missed the sync timeout is answered 202 with a ticket to poll
+    private static boolean purchase(ApiClient api, Map<String, Object> request, String token) {
+        JsonNode response = api.post("book", "/api/bookings", request, token, true);
+        if (response == null) {
+            return false;
+        }
+        String ticket = response.path("data").path("ticket").asText(null);
+        if (ticket == null) {
+            return true;
+        }
+        while (true) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            JsonNode polled = api.get("poll", "/api/bookings/requests/" + ticket, token);
+            if (polled == null) {
+                return false;
+            }
+            String status = polled.path("data").path("status").asText();
+            if (!status.equals("PENDING")) {
+                return status.equals("CONFIRMED");
+            }
+        }
+    }
+
+    private static List<String> checkInventory(JdbcTemplate jdbc, long eventId, int tickets, int buyers, int quantity,
+                                               int sold) {
+        List<String> failures = new ArrayList<>();
+        int booked = jdbc.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM bookings WHERE event_id = ? AND status = 'CONFIRMED'",
+                Integer.class, eventId);
+        int available = jdbc.queryForObject("SELECT available_tickets FROM events WHERE id = ?", Integer.class, eventId);
+        if (booked != sold) {
+            failures.add(String.format("%d bookings stored, %d confirmed to buyers", booked, sold));
+        }
+        if (booked + available != tickets) {
+            failures.add(String.format("%d booked + %d available != %d tickets", booked, available, tickets));
+        }
+        // Sold out (fewer tickets left than one buyer wants) or every buyer served
+        if (booked != Math.min(tickets / quantity, buyers) * quantity) {
+            failures.add(String.format("%d of %d tickets sold to %d buyers of %d", booked, tickets, buyers, quantity));
+        }
+        return failures;
+    }
+
+    private static long createEvent(JdbcTemplate jdbc, int tickets) {
+        return jdbc.queryForObject("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, category)
+                VALUES ('Flash sale', 'Load test on-sale', CURRENT_DATE + 30, TIME '20:00', 'Arena', ?, ?, 10.00, 'Music')
+                RETURNING id
+                """, Long.class, tickets, tickets);
+    }
+
+    // Tokens are minted directly; signing up thousands of buyers would measure password hashing instead
+    private static List<String> createBuyers(JdbcTemplate jdbc, JwtUtil jwtUtil, String runId, int buyers) {
+        List<String> tokens = new ArrayList<>(buyers);
+        jdbc.query("""
+                INSERT INTO users (email, name, password_hash, created_at)
+                SELECT 'flash-' || ? || '-' || n || '@loadtest.local', 'Buyer ' || n, 'x', NOW()
+                FROM generate_series(1, CAST(? AS INTEGER)) AS n
+                RETURNING id, email, name
+                """, row -> {
+            tokens.add(jwtUtil.generateToken(row.getString("email"), row.getLong("id"), row.getString("name")));
+        }, runId, buyers);
+        return tokens;
+    }
+
+    private static void writeReport(LoadTestSettings settings, int tickets, int buyers, int quantity, int concurrency,
+                                    int sold, double seconds, long requests, long errors, EndpointStats purchase,
+                                    EndpointStats poll, List<String> failures) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", SCENARIO);
+        report.put("tickets", tickets);
+        report.put("buyers", buyers);
+        report.put("quantity", quantity);
+        report.put("concurrency", concurrency);
+        report.put("appProperties", settings.appProperties());
+        report.put("sold", sold);
+        report.put("seconds", seconds);
+        report.put("ticketsPerSecond", sold / seconds);
+        report.put("requestsPerSecond", requests / seconds);
+        report.put("turnedAway", purchase.rejections());
+        report.put("errors", errors);
+        report.put("polls", poll.count());
+        report.put("p50", purchase.percentileMillis(50));
+        report.put("p99", purchase.percentileMillis(99));
+        report.put("max", purchase.maxMillis());
+        report.put("failures", failures);
+
+        File file = new File(settings.reportFile());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("Flash sale report written to " + file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,220 @@
+package com.eventconnect.loadtest;
+
+import com.eventconnect.EventConnectApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test. Boots the application against an embedded PostgreSQL seeded with a generated
+ * catalog (or targets {@code -Dloadtest.target-url}), replays a browse/search/auth/book/cancel traffic mix,
+ * reports throughput and latency percentiles per endpoint and fails when a threshold is exceeded.
+ *
+ * <p>Run with {@code mvn -Pload-test -DskipTests verify}.
+ */
+public final class LoadTest {
+
+    private static final int EVENT_DISCOVERY_PAGES = 10;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (FlashSaleLoadTest.SCENARIO.equals(System.getProperty("loadtest.scenario"))) {
+            FlashSaleLoadTest.main(args);
+            return;
+        }
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext app = null;
+        try {
+            String baseUrl = settings.targetUrl();
+            if (settings.embedded()) {
+                postgres = EmbeddedPostgres.builder().setServerConfig("max_connections", "300").start();
+                app = startApplication(settings, postgres, Map.of());
+                baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+            }
+
+            ApiClient api = new ApiClient(baseUrl);
+            List<Long> eventIds = discoverEvents(api);
+            if (eventIds.isEmpty()) {
+                throw new IllegalStateException("No upcoming events found at " + baseUrl);
+            }
+            System.out.printf("Load test: %d users, %d events, %ds warmup, %ds measured against %s%n",
+                    settings.users(), eventIds.size(), settings.warmup().toSeconds(),
+                    settings.duration().toSeconds(), baseUrl);
+
+            runTraffic(settings, api, eventIds);
+
+            List<String> failures = checkThresholds(settings, api.getStats());
+            printReport(settings, api.getStats());
+            writeReport(settings, api.getStats(), failures);
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Load test thresholds exceeded:\n  " + String.join("\n  ", failures));
+            }
+            System.out.println("Load test passed");
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    static ConfigurableApplicationContext startApplication(LoadTestSettings settings, EmbeddedPostgres postgres,
+                                                           Map<String, Object> scenarioProperties) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        // Profiling run: Hibernate query statistics are part of the metrics worth looking at
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", true);
+        properties.put("seed.generated-events", settings.seedEvents());
+        // Bookings are part of the mix, not the subject - keep the per-user limit out of the way
+        properties.put("rate-limit.capacity", 1000);
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        properties.putAll(scenarioProperties);
+        properties.putAll(settings.appProperties());
+
+        // Command-line arguments take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(EventConnectApplication.class).run(args);
+    }
+
+    private static List<Long> discoverEvents(ApiClient api) {
+        List<Long> eventIds = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < EVENT_DISCOVERY_PAGES; page++) {
+            String path = "/api/events/upcoming?limit=200" + (cursor == null ? "" : "&after=" + ApiClient.encode(cursor));
+            JsonNode response = api.get("upcoming", path, null);
+            if (response == null) {
+                break;
+            }
+            response.path("data").forEach(event -> eventIds.add(event.get("id").asLong()));
+            if (!response.hasNonNull("nextCursor")) {
+                break;
+            }
+            cursor = response.get("nextCursor").asText();
+        }
+        return eventIds;
+    }
+
+    private static void runTraffic(LoadTestSettings settings, ApiClient api, List<Long> eventIds) throws InterruptedException {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        long start = System.nanoTime();
+        long measureStart = start + settings.warmup().toNanos();
+        long deadline = measureStart + settings.duration().toNanos();
+        long rampStepNanos = settings.rampUp().toNanos() / Math.max(settings.users(), 1);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.users(); i++) {
+                users.execute(new VirtualUser(runId, i, api, eventIds, settings.thinkTime().toMillis(), deadline));
+                sleepUntil(start + (i + 1) * rampStepNanos);
+            }
+            sleepUntil(measureStart);
+            api.startRecording();
+            sleepUntil(deadline);
+            api.stopRecording();
+        }
+    }
+
+    private static List<String> checkThresholds(LoadTestSettings settings, Map<String, EndpointStats> stats) {
+        List<String> failures = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            total += endpoint.count();
+            if (endpoint.count() == 0) {
+                continue;
+            }
+            long maxP99 = settings.maxP99Millis(entry.getKey());
+            if (endpoint.percentileMillis(99) > maxP99) {
+                failures.add(String.format("%s p99 %.1f ms > %d ms", entry.getKey(), endpoint.percentileMillis(99), maxP99));
+            }
+            if (endpoint.errorRate() > settings.maxErrorRate()) {
+                failures.add(String.format("%s error rate %.2f%% > %.2f%%", entry.getKey(),
+                        endpoint.errorRate() * 100, settings.maxErrorRate() * 100));
+            }
+        }
+        double throughput = total / (double) settings.duration().toSeconds();
+        if (throughput < settings.minThroughput()) {
+            failures.add(String.format("throughput %.1f req/s < %.1f req/s", throughput, settings.minThroughput()));
+        }
+        return failures;
+    }
+
+    private static void printReport(LoadTestSettings settings, Map<String, EndpointStats> stats) {
+        double seconds = settings.duration().toSeconds();
+        long total = 0;
+        System.out.printf("%n%-12s %9s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "rejected", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            total += endpoint.count();
+            System.out.printf("%-12s %9d %9.1f %9d %8d %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+                    endpoint.count(), endpoint.count() / seconds, endpoint.rejections(), endpoint.errors(),
+                    endpoint.percentileMillis(50), endpoint.percentileMillis(95),
+                    endpoint.percentileMillis(99), endpoint.maxMillis());
+        }
+        System.out.printf("%-12s %9d %9.1f%n%n", "total", total, total / seconds);
+    }
+
+    private static void writeReport(LoadTestSettings settings, Map<String, EndpointStats> stats,
+                                    List<String> failures) throws IOException {
+        double seconds = settings.duration().toSeconds();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((name, endpoint) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", endpoint.count());
+            row.put("throughput", endpoint.count() / seconds);
+            row.put("rejected", endpoint.rejections());
+            row.put("errors", endpoint.errors());
+            row.put("p50", endpoint.percentileMillis(50));
+            row.put("p95", endpoint.percentileMillis(95));
+            row.put("p99", endpoint.percentileMillis(99));
+            row.put("max", endpoint.maxMillis());
+            endpoints.put(name, row);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", settings.users());
+        report.put("durationSeconds", seconds);
+        report.put("appProperties", settings.appProperties());
+        report.put("endpoints", endpoints);
+        report.put("failures", failures);
+
+        File file = new File(settings.reportFile());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("Load test report written to " + file.getAbsolutePath());
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+        }
+    }
+}
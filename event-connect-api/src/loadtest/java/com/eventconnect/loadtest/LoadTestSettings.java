@@ -0,0 +1,62 @@
+package com.eventconnect.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties. Properties prefixed with
+ * {@code loadtest.app.} are passed through to the embedded application.
+ */
+record LoadTestSettings(String targetUrl,
+                        int users,
+                        Duration rampUp,
+                        Duration warmup,
+                        Duration duration,
+                        Duration thinkTime,
+                        int seedEvents,
+                        long maxP99Millis,
+                        double maxErrorRate,
+                        double minThroughput,
+                        String reportFile,
+                        Map<String, Object> appProperties) {
+
+    private static final String APP_PREFIX = "loadtest.app.";
+
+    static LoadTestSettings fromSystemProperties() {
+        Properties props = System.getProperties();
+        Map<String, Object> appProperties = new TreeMap<>();
+        props.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), props.getProperty(name)));
+        return new LoadTestSettings(
+                props.getProperty("loadtest.target-url", ""),
+                Integer.parseInt(props.getProperty("loadtest.users", "200")),
+                duration(props, "loadtest.ramp-up", "10s"),
+                duration(props, "loadtest.warmup", "15s"),
+                duration(props, "loadtest.duration", "60s"),
+                duration(props, "loadtest.think-time", "100ms"),
+                Integer.parseInt(props.getProperty("loadtest.seed-events", "5000")),
+                Long.parseLong(props.getProperty("loadtest.max-p99-ms", "1000")),
+                Double.parseDouble(props.getProperty("loadtest.max-error-rate", "0.01")),
+                Double.parseDouble(props.getProperty("loadtest.min-throughput", "0")),
+                props.getProperty("loadtest.report", "target/loadtest-report.json"),
+                appProperties);
+    }
+
+    // Per-endpoint override, e.g. -Dloadtest.max-p99-ms.book=2000
+    long maxP99Millis(String endpoint) {
+        return Long.parseLong(System.getProperty("loadtest.max-p99-ms." + endpoint, String.valueOf(maxP99Millis)));
+    }
+
+    boolean embedded() {
+        return targetUrl.isBlank();
+    }
+
+    private static Duration duration(Properties props, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(props.getProperty(name, defaultValue));
+    }
+}
@@ -0,0 +1,141 @@
+package com.eventconnect.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One simulated visitor: signs up, then browses, searches and books until the deadline, with a random
+ * think time between requests. Popularity is skewed so a few hot events take most of the traffic.
+ */
+class VirtualUser implements Runnable {
+
+    private static final String PASSWORD = "loadtest123";
+    private static final String[] SEARCH_TERMS = {"concert", "final", "comedy", "festival", "expo", "mumbai", "goa"};
+
+    private final String runId;
+    private final int id;
+    private final ApiClient api;
+    private final List<Long> eventIds;
+    private final long thinkTimeMillis;
+    private final long deadlineNanos;
+    private final SplittableRandom random;
+    private final Deque<Long> bookingIds = new ArrayDeque<>();
+
+    private String email;
+    private String token;
+    private int accounts;
+
+    VirtualUser(String runId, int id, ApiClient api, List<Long> eventIds, long thinkTimeMillis, long deadlineNanos) {
+        this.runId = runId;
+        this.id = id;
+        this.api = api;
+        this.eventIds = eventIds;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new SplittableRandom(id);
+    }
+
+    @Override
+    public void run() {
+        if (!signup()) {
+            return;
+        }
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            step();
+            think();
+        }
+    }
+
+    private void step() {
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            browseUpcoming();
+        } else if (roll < 40) {
+            api.get("browse", "/api/events?limit=20", null);
+        } else if (roll < 55) {
+            String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+            api.get("search", "/api/events/search?limit=20&query=" + ApiClient.encode(term), null);
+        } else if (roll < 70) {
+            api.get("event", "/api/events/" + pickEvent(), null);
+        } else if (roll < 82) {
+            book();
+        } else if (roll < 90) {
+            api.get("my-bookings", "/api/bookings/me", token);
+        } else if (roll < 95) {
+            cancel();
+        } else if (roll < 98) {
+            login();
+        } else {
+            // A new visitor arriving mid-run
+            signup();
+        }
+    }
+
+    private void browseUpcoming() {
+        JsonNode page = api.get("upcoming", "/api/events/upcoming?limit=20", null);
+        if (page != null && page.hasNonNull("nextCursor") && random.nextInt(3) == 0) {
+            api.get("upcoming", "/api/events/upcoming?limit=20&after=" + ApiClient.encode(page.get("nextCursor").asText()), null);
+        }
+    }
+
+    private void book() {
+        JsonNode response = api.post("book", "/api/bookings",
+                Map.of("eventId", pickEvent(), "quantity", 1 + random.nextInt(2)), token, true);
+        JsonNode bookingId = response == null ? null : response.path("data").get("id");
+        if (bookingId != null && bookingId.isNumber()) {
+            bookingIds.push(bookingId.asLong());
+        }
+    }
+
+    private void cancel() {
+        Long bookingId = bookingIds.poll();
+        if (bookingId == null) {
+            book();
+            return;
+        }
+        api.delete("cancel", "/api/bookings/" + bookingId, token);
+    }
+
+    private boolean signup() {
+        email = "lt-" + runId + "-" + id + "-" + (++accounts) + "@loadtest.dev";
+        bookingIds.clear();
+        return authenticate(api.post("signup", "/api/auth/signup",
+                Map.of("name", "Load Test " + id, "email", email, "password", PASSWORD), null, false));
+    }
+
+    private boolean login() {
+        return authenticate(api.post("login", "/api/auth/login",
+                Map.of("email", email, "password", PASSWORD), null, false));
+    }
+
+    private boolean authenticate(JsonNode response) {
+        JsonNode newToken = response == null ? null : response.path("data").get("token");
+        if (newToken == null) {
+            return false;
+        }
+        token = newToken.asText();
+        return true;
+    }
+
+    // Cubic skew: the first tenth of the catalog gets roughly half of the requests
+    private long pickEvent() {
+        double u = random.nextDouble();
+        return eventIds.get((int) (eventIds.size() * u * u * u));
+    }
+
+    private void think() {
+        if (thinkTimeMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(random.nextLong(2 * thinkTimeMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventconnect.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Lightweight principal built from the JWT, used instead of a managed {@code User} entity.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private final Long id;
+    private final String email;
+    private final String name;
+}
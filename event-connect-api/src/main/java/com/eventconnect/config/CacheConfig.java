@@ -0,0 +1,32 @@
+package com.eventconnect.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ALL_EVENTS = "events.all";
+    public static final String UPCOMING_EVENTS = "events.upcoming";
+    public static final String EVENTS_BY_CATEGORY = "events.category";
+    public static final String TOP_EVENTS = "events.top";
+    public static final String EVENT_BY_ID = "events.byId";
+
+    @Value("${cache.events.spec}")
+    private String eventsCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ALL_EVENTS, UPCOMING_EVENTS, EVENTS_BY_CATEGORY, TOP_EVENTS, EVENT_BY_ID);
+        cacheManager.setCacheSpecification(eventsCacheSpec);
+        // Evictions issued inside a booking transaction only apply once it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
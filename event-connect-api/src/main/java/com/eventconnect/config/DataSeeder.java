@@ -3,23 +3,45 @@ package com.eventconnect.config;
 import com.eventconnect.entity.Event;
 import com.eventconnect.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 @Component
 @RequiredArgsConstructor
 public class DataSeeder implements CommandLineRunner {
 
+    private static final int CHUNK_SIZE = 500;
+    private static final String[] CATEGORIES = {"Music", "Sports", "Comedy", "Theatre", "Entertainment"};
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bangalore", "Chennai", "Pune", "Hyderabad", "Goa"};
+    private static final String[] TITLES = {"Live in Concert", "Championship Final", "Stand-up Special",
+            "Theatre Festival", "Fan Expo", "Unplugged Tour", "Night Market"};
+
     private final EventRepository eventRepository;
+    private final SyntheticDataSeeder syntheticDataSeeder;
+
+    @Value("${seed.mode:sample}")
+    private SeedMode seedMode;
+
+    @Value("${seed.generated-events:0}")
+    private int generatedEvents;
 
     @Override
     public void run(String... args) {
+        if (seedMode == SeedMode.SYNTHETIC) {
+            if (eventRepository.count() == 0) {
+                syntheticDataSeeder.seed();
+            }
+            return;
+        }
         if (eventRepository.count() == 0) {
             List<Event> events = Arrays.asList(
                 Event.builder()
@@ -129,6 +151,38 @@ public class DataSeeder implements CommandLineRunner {
 
             eventRepository.saveAll(events);
             System.out.println("Sample events have been seeded to the database!");
+
+            if (generatedEvents > 0) {
+                seedGeneratedEvents(generatedEvents);
+                System.out.println(generatedEvents + " generated events have been seeded to the database!");
+            }
+        }
+    }
+
+    // Synthetic upcoming events for load testing, spread over the next year
+    private void seedGeneratedEvents(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<Event> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 1; i <= count; i++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String city = CITIES[random.nextInt(CITIES.length)];
+            int totalTickets = 1000 * (1 + random.nextInt(50));
+            chunk.add(Event.builder()
+                    .title(category + " " + TITLES[random.nextInt(TITLES.length)] + " #" + i)
+                    .description("Generated " + category.toLowerCase() + " event in " + city + " for load testing.")
+                    .date(today.plusDays(1 + random.nextInt(365)))
+                    .time(LocalTime.of(10 + random.nextInt(11), 0))
+                    .location("Arena " + (1 + random.nextInt(20)) + ", " + city)
+                    .totalTickets(totalTickets)
+                    .availableTickets(totalTickets)
+                    .price(BigDecimal.valueOf(250L * (1 + random.nextInt(20))))
+                    .category(category)
+                    .build());
+            if (chunk.size() == CHUNK_SIZE || i == count) {
+                eventRepository.saveAll(chunk);
+                chunk.clear();
+            }
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.eventconnect.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.postgresql.PostgreSQLadvisoryLockBasedProxyManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-user buckets shared by every instance through the rate_limit_buckets table.
+ * Bucket proxies are kept locally so the optimization can serve tokens it has already
+ * synchronized without a round trip to the database.
+ */
+final class DistributedRateLimiter {
+
+    static final String TABLE = "rate_limit_buckets";
+
+    private final PostgreSQLadvisoryLockBasedProxyManager<Long> proxyManager;
+    private final BucketConfiguration configuration;
+    private final Optimization optimization;
+    private final Cache<Long, BucketProxy> proxies;
+
+    DistributedRateLimiter(DataSource dataSource, int capacity, Duration refillPeriod,
+                           long maxUnsyncedTokens, Duration maxUnsyncedTimeout, long maxProxies) {
+        this.proxyManager = new PostgreSQLadvisoryLockBasedProxyManager<>(SQLProxyConfiguration.builder()
+                .withTableSettings(BucketTableSettings.customSettings(TABLE, "id", "state"))
+                .build(dataSource));
+        this.configuration = BucketConfiguration.builder()
+                .addLimit(limit -> limit.capacity(capacity).refillGreedy(capacity, refillPeriod))
+                .build();
+        // Delaying lets each instance spend up to maxUnsyncedTokens before syncing, so the
+        // cluster can overshoot by that many tokens per instance; batching never overshoots
+        this.optimization = maxUnsyncedTokens > 0
+                ? Optimizations.delaying(new DelayParameters(maxUnsyncedTokens, maxUnsyncedTimeout))
+                : Optimizations.batching();
+        this.proxies = Caffeine.newBuilder()
+                .maximumSize(maxProxies)
+                .expireAfterAccess(refillPeriod)
+                .build();
+    }
+
+    boolean tryConsume(long key, int tokens) {
+        return proxies.get(key, this::newProxy).tryConsume(tokens);
+    }
+
+    private BucketProxy newProxy(Long key) {
+        return proxyManager.builder()
+                .withOptimization(optimization)
+                .build(key, () -> configuration);
+    }
+}
@@ -1,27 +1,59 @@
 package com.eventconnect.config;
 
-import com.eventconnect.entity.User;
 import com.eventconnect.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final PrincipalMode principalMode;
+    private final TransactionTemplate primaryLookup;
+    private final Cache<Long, Boolean> activeUsers;
+    private final Timer authenticated;
+    private final Timer rejected;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   UserRepository userRepository,
+                                   MeterRegistry meterRegistry,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${jwt.principal-mode:cached}") PrincipalMode principalMode,
+                                   @Value("${jwt.user-cache.max-size:10000}") long userCacheMaxSize,
+                                   @Value("${jwt.user-cache.ttl:5m}") Duration userCacheTtl) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.principalMode = principalMode;
+        // Read-write so the lookup is answered by the primary; a replica may not have seen a fresh sign-up yet
+        this.primaryLookup = new TransactionTemplate(transactionManager);
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(userCacheMaxSize)
+                .expireAfterWrite(userCacheTtl)
+                .build();
+        this.authenticated = authTimer(meterRegistry, "authenticated");
+        this.rejected = authTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,13 +71,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
 
+        long start = System.nanoTime();
+        Timer outcome = rejected;
         try {
-            email = jwtUtil.extractEmail(jwt);
+            // Signature and expiry are verified here, once per token
+            Claims claims = jwtUtil.parseToken(jwt);
+            email = claims.getSubject();
 
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findByEmail(email).orElse(null);
+                AuthenticatedUser user = resolvePrincipal(claims);
 
-                if (user != null && jwtUtil.validateToken(jwt, email)) {
+                if (user != null) {
                     UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
                             user,
@@ -54,12 +90,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = authenticated;
                 }
             }
         } catch (Exception e) {
             logger.error("JWT validation failed: " + e.getMessage());
         }
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
+
+    private AuthenticatedUser resolvePrincipal(Claims claims) {
+        if (principalMode == PrincipalMode.DATABASE) {
+            return primaryLookup.execute(status -> userRepository.findByEmail(claims.getSubject())
+                    .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getName()))
+                    .orElse(null));
+        }
+
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            return null;
+        }
+        if (principalMode == PrincipalMode.CACHED && !isActiveUser(userId)) {
+            return null;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), claims.get("name", String.class));
+    }
+
+    private static Timer authTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt")
+                .description("Bearer token verification and principal resolution")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // Looked up outside the cache's compute lock so a virtual thread is not pinned during the query
+    private boolean isActiveUser(Long userId) {
+        Boolean active = activeUsers.getIfPresent(userId);
+        if (active == null) {
+            active = primaryLookup.execute(status -> userRepository.existsById(userId));
+            activeUsers.put(userId, active);
+        }
+        return active;
+    }
 }
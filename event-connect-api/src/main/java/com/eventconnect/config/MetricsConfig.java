@@ -0,0 +1,43 @@
+package com.eventconnect.config;
+
+import com.eventconnect.service.BookingAdmissionQueue;
+import com.eventconnect.service.HoldExpiryScheduler;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on service methods
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder bookingMeters(RateLimitConfig rateLimitConfig, HoldExpiryScheduler holdExpiryScheduler,
+                                     BookingAdmissionQueue bookingAdmissionQueue) {
+        return registry -> {
+            FunctionCounter.builder("booking.rate.limit.rejections", rateLimitConfig, RateLimitConfig::getRejectionCount)
+                    .description("Booking attempts rejected by the per-user rate limit")
+                    .register(registry);
+            Gauge.builder("booking.rate.limit.buckets", rateLimitConfig, RateLimitConfig::getLiveBucketCount)
+                    .description("Users with a partially drained rate-limit bucket on this instance")
+                    .register(registry);
+            Gauge.builder("booking.rate.limit.fallback", rateLimitConfig, limiter -> limiter.isFallingBack() ? 1 : 0)
+                    .description("1 while the shared rate-limit store is unreachable and local buckets are used")
+                    .register(registry);
+            Gauge.builder("booking.holds.outstanding", holdExpiryScheduler, HoldExpiryScheduler::getOutstandingHolds)
+                    .description("Seat holds waiting to be confirmed or expired on this instance")
+                    .register(registry);
+            Gauge.builder("booking.admission.lanes", bookingAdmissionQueue, BookingAdmissionQueue::getActiveLaneCount)
+                    .description("Events with queued booking requests on this instance")
+                    .register(registry);
+        };
+    }
+}
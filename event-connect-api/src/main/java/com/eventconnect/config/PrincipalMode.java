@@ -0,0 +1,10 @@
+package com.eventconnect.config;
+
+public enum PrincipalMode {
+    // Load the user by email on every request
+    DATABASE,
+    // Trust the verified token claims, no database access
+    CLAIMS,
+    // Trust the claims but check the user still exists through a short-lived cache
+    CACHED
+}
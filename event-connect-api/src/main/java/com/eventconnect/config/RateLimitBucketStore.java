@@ -0,0 +1,145 @@
+package com.eventconnect.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Per-user token buckets packed into primitive arrays. Each bucket is stored as one long, its
+ * theoretical arrival time (GCRA): the instant at which the bucket would be completely refilled.
+ * Once that instant has passed the bucket is full and indistinguishable from a new one, so it can
+ * be dropped, which keeps memory proportional to users active within one refill period.
+ */
+final class RateLimitBucketStore {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final Segment[] segments;
+
+    RateLimitBucketStore(int capacity, Duration refillPeriod, int concurrency) {
+        this.emissionIntervalNanos = refillPeriod.toNanos() / capacity;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        int segmentCount = Integer.highestOneBit(Math.max(concurrency, 1) * 2 - 1);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    boolean tryConsume(long key, int tokens, long nowNanos) {
+        long hash = mix(key);
+        Segment segment = segments[(int) (hash >>> 32) & (segments.length - 1)];
+        synchronized (segment) {
+            return segment.tryConsume(key, (int) hash, tokens, nowNanos);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    void evictFull(long nowNanos) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.compact(nowNanos);
+            }
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private final class Segment {
+        private long[] keys = newKeys(INITIAL_SEGMENT_CAPACITY);
+        private long[] arrivals = new long[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        private boolean tryConsume(long key, int hash, int tokens, long now) {
+            int mask = keys.length - 1;
+            int index = hash & mask;
+            while (keys[index] != EMPTY && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            boolean found = keys[index] == key;
+
+            long arrival = found && arrivals[index] - now > 0 ? arrivals[index] : now;
+            long next = arrival + emissionIntervalNanos * tokens;
+            if (next - now > burstNanos) {
+                return false;
+            }
+
+            if (found) {
+                arrivals[index] = next;
+                return true;
+            }
+            if ((size + 1) * 4 > keys.length * 3) {
+                // Drop full buckets first and only grow if that did not free enough room
+                rebuild(keys.length, now);
+                if ((size + 1) * 2 > keys.length) {
+                    rebuild(keys.length * 2, now);
+                }
+                insert(key, hash, next);
+            } else {
+                keys[index] = key;
+                arrivals[index] = next;
+                size++;
+            }
+            return true;
+        }
+
+        // Drop full buckets and shrink the table back down after a burst of users
+        private void compact(long now) {
+            int live = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && arrivals[i] - now > 0) {
+                    live++;
+                }
+            }
+            int capacity = INITIAL_SEGMENT_CAPACITY;
+            while (live * 2 > capacity) {
+                capacity *= 2;
+            }
+            rebuild(capacity, now);
+        }
+
+        private void rebuild(int capacity, long now) {
+            long[] oldKeys = keys;
+            long[] oldArrivals = arrivals;
+            keys = newKeys(capacity);
+            arrivals = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldArrivals[i] - now > 0) {
+                    insert(oldKeys[i], (int) mix(oldKeys[i]), oldArrivals[i]);
+                }
+            }
+        }
+
+        private void insert(long key, int hash, long arrival) {
+            int mask = keys.length - 1;
+            int index = hash & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            arrivals[index] = arrival;
+            size++;
+        }
+
+        private long[] newKeys(int capacity) {
+            long[] array = new long[capacity];
+            Arrays.fill(array, EMPTY);
+            return array;
+        }
+    }
+}
@@ -1,35 +1,82 @@
 package com.eventconnect.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j
 @Component
 public class RateLimitConfig {
 
-    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitBucketStore buckets;
+    private final DistributedRateLimiter distributed;
+    private final LongAdder rejections = new LongAdder();
+    private final AtomicBoolean fallingBack = new AtomicBoolean();
 
-    public Bucket resolveBucket(Long userId) {
-        return buckets.computeIfAbsent(userId, this::createNewBucket);
+    public RateLimitConfig(DataSource dataSource,
+                           @Value("${rate-limit.mode:local}") RateLimitMode mode,
+                           @Value("${rate-limit.capacity:5}") int capacity,
+                           @Value("${rate-limit.refill-period:1m}") Duration refillPeriod,
+                           @Value("${rate-limit.concurrency:64}") int concurrency,
+                           @Value("${rate-limit.distributed.max-unsynced-tokens:1}") long maxUnsyncedTokens,
+                           @Value("${rate-limit.distributed.max-unsynced-timeout:1s}") Duration maxUnsyncedTimeout,
+                           @Value("${rate-limit.distributed.max-proxies:100000}") long maxProxies) {
+        // 5 bookings per minute per user, refilled greedily (one token every 12 seconds)
+        this.buckets = new RateLimitBucketStore(capacity, refillPeriod, concurrency);
+        this.distributed = mode == RateLimitMode.DISTRIBUTED
+                ? new DistributedRateLimiter(dataSource, capacity, refillPeriod,
+                        maxUnsyncedTokens, maxUnsyncedTimeout, maxProxies)
+                : null;
     }
 
-    private Bucket createNewBucket(Long userId) {
-        // 5 bookings per minute per user
-        Bandwidth limit = Bandwidth.builder()
-                .capacity(5)
-                .refillGreedy(5, Duration.ofMinutes(1))
-                .build();
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
+    public boolean tryConsume(Long userId) {
+        boolean allowed = consume(userId);
+        if (!allowed) {
+            rejections.increment();
+        }
+        return allowed;
     }
 
-    public boolean tryConsume(Long userId) {
-        Bucket bucket = resolveBucket(userId);
-        return bucket.tryConsume(1);
+    private boolean consume(long userId) {
+        if (distributed != null) {
+            try {
+                boolean allowed = distributed.tryConsume(userId, 1);
+                if (fallingBack.compareAndSet(true, false)) {
+                    log.info("Shared rate-limit store reachable again, back to shared buckets");
+                }
+                return allowed;
+            } catch (RuntimeException e) {
+                // Keep limiting per instance rather than failing bookings while the store is unreachable;
+                // logged on the transition only, an outage would otherwise log once per booking
+                if (fallingBack.compareAndSet(false, true)) {
+                    log.warn("Shared rate-limit store unavailable, falling back to local buckets: {}", e.getMessage());
+                }
+            }
+        }
+        return buckets.tryConsume(userId, 1, System.nanoTime());
+    }
+
+    public int getLiveBucketCount() {
+        return buckets.size();
+    }
+
+    public boolean isFallingBack() {
+        return fallingBack.get();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    // Buckets that have fully refilled carry no state and are dropped
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictFullBuckets() {
+        buckets.evictFull(System.nanoTime());
     }
 }
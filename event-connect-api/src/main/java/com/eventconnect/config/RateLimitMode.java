@@ -0,0 +1,6 @@
+package com.eventconnect.config;
+
+public enum RateLimitMode {
+    LOCAL,
+    DISTRIBUTED
+}
@@ -0,0 +1,61 @@
+package com.eventconnect.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Users who changed data within the last few seconds. Their read-only work stays on the primary until
+ * the replicas have had time to catch up, so a booking never goes missing from the user's own list
+ * right after it was made. Writes are recorded by the services that make them, once committed.
+ * <p>
+ * The record is kept per instance: a user whose next request lands on another API instance can still
+ * be served by a replica there, so load balancers should keep users on one instance (sticky sessions)
+ * when that matters.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${datasource.replicas.read-your-writes-window:5s}") Duration window,
+                          @Value("${datasource.replicas.read-your-writes-max-users:100000}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    // The window starts once the write is committed, not when the transaction began
+    public void recordWrite(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentWriter(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.eventconnect.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -42,10 +43,14 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Allow preflight OPTIONS requests
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // Streaming bodies finish on an async dispatch that carries no token; the request itself was checked
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 // Allow error endpoints
                 .requestMatchers("/error/**").permitAll()
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
+                // Holds a connection for the whole download, so not open to anonymous callers
+                .requestMatchers(HttpMethod.GET, "/api/events/export").authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll()
                 // Protected endpoints
                 .requestMatchers("/api/bookings/**").authenticated()
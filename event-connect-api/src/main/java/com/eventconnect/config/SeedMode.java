@@ -0,0 +1,6 @@
+package com.eventconnect.config;
+
+public enum SeedMode {
+    SAMPLE,
+    SYNTHETIC
+}
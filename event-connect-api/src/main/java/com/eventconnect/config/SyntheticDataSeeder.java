@@ -0,0 +1,270 @@
+package com.eventconnect.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+/**
+ * Generates production-sized events, users and bookings (seed.mode=synthetic) and streams them into
+ * PostgreSQL with COPY in chunks. Event popularity follows a Zipf distribution so a few events take most
+ * bookings, and each event's ticket counts are consistent with its CONFIRMED bookings.
+ *
+ * <p>Bookings are generated twice from the same seed: once to count tickets sold per event before the
+ * events are written, and once to write them, so nothing but a few ints per event is held in memory.
+ */
+@Slf4j
+@Component
+public class SyntheticDataSeeder {
+
+    private static final long SEED = 42;
+    private static final String PASSWORD = "password123";
+
+    private static final String[] CATEGORIES = {"Music", "Sports", "Comedy", "Theatre", "Entertainment"};
+    private static final int[] CATEGORY_WEIGHTS = {35, 25, 15, 10, 15};
+    private static final String[][] CATEGORY_TITLES = {
+            {"Live in Concert", "World Tour", "Unplugged", "Music Festival"},
+            {"Championship Final", "League Match", "Marathon", "Derby"},
+            {"Stand-up Night", "Comedy Special", "Open Mic", "Improv Show"},
+            {"Drama Festival", "Musical", "Classic Play", "Opera Night"},
+            {"Fan Expo", "Carnival", "Food Festival", "Magic Show"}
+    };
+    private static final String[] NAMES = {"Aurora", "Monsoon", "Neon", "Velvet", "Saffron", "Thunder", "Golden",
+            "Midnight", "Indigo", "Horizon", "Coastal", "Electric"};
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bangalore", "Chennai", "Pune", "Hyderabad",
+            "Kolkata", "Goa", "Jaipur", "Ahmedabad"};
+    private static final int[] CAPACITIES = {200, 1500, 10000, 50000};
+    private static final int[] QUANTITIES = {1, 1, 1, 2, 2, 2, 3, 4};
+    private static final int CANCELLED_PERCENT = 12;
+    private static final int BOOKING_WINDOW_MINUTES = 180 * 24 * 60;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final int eventCount;
+    private final int userCount;
+    private final long bookingCount;
+    private final double zipfExponent;
+    private final int chunkSize;
+
+    public SyntheticDataSeeder(DataSource dataSource,
+                               PasswordEncoder passwordEncoder,
+                               @Value("${seed.synthetic.events:100000}") int eventCount,
+                               @Value("${seed.synthetic.users:100000}") int userCount,
+                               @Value("${seed.synthetic.bookings:1000000}") long bookingCount,
+                               @Value("${seed.synthetic.zipf-exponent:1.0}") double zipfExponent,
+                               @Value("${seed.synthetic.chunk-size:10000}") int chunkSize) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.eventCount = eventCount;
+        this.userCount = userCount;
+        this.bookingCount = bookingCount;
+        this.zipfExponent = zipfExponent;
+        this.chunkSize = chunkSize;
+    }
+
+    public void seed() {
+        if (bookingCount > 0 && (eventCount == 0 || userCount == 0)) {
+            throw new IllegalStateException("Synthetic bookings need at least one event and one user");
+        }
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            long eventBase = queryLong(connection, "SELECT COALESCE(MAX(id), 0) FROM events");
+            long userBase = queryLong(connection, "SELECT COALESCE(MAX(id), 0) FROM users");
+            long bookingBase = queryLong(connection,
+                    "SELECT GREATEST((SELECT last_value FROM bookings_seq), (SELECT COALESCE(MAX(id), 0) FROM bookings))");
+
+            int[] prices = new int[eventCount];
+            int[] capacities = new int[eventCount];
+            Random eventRandom = new Random(SEED);
+            for (int i = 0; i < eventCount; i++) {
+                prices[i] = 250 * (1 + eventRandom.nextInt(40));
+                capacities[i] = CAPACITIES[eventRandom.nextInt(CAPACITIES.length)];
+            }
+
+            BookingGenerator counter = new BookingGenerator();
+            int[] sold = new int[eventCount];
+            for (long i = 0; i < bookingCount; i++) {
+                counter.next();
+                if (!counter.cancelled) {
+                    sold[counter.event] += counter.quantity;
+                }
+            }
+
+            copyEvents(copyManager, eventBase, prices, capacities, sold);
+            copyUsers(copyManager, userBase);
+            copyBookings(copyManager, eventBase, userBase, bookingBase, prices);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('events', 'id'), (SELECT MAX(id) FROM events))");
+                statement.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT MAX(id) FROM users))");
+                if (bookingCount > 0) {
+                    statement.execute("SELECT setval('bookings_seq', " + (bookingBase + bookingCount) + ")");
+                }
+            }
+            connection.commit();
+
+            // Fresh planner statistics, so query plans match what production-sized tables would get
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE events, users, bookings");
+            }
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Synthetic data seeding failed: " + e.getMessage(), e);
+        }
+        log.info("Seeded {} events, {} users and {} bookings in {}s", eventCount, userCount, bookingCount,
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private void copyEvents(CopyManager copyManager, long idBase, int[] prices, int[] capacities, int[] sold)
+            throws SQLException, IOException {
+        Random random = new Random(SEED + 1);
+        LocalDate today = LocalDate.now();
+        copy(copyManager, "events (id, title, description, date, time, location, total_tickets, available_tickets, price, category)",
+                eventCount, (i, row) -> {
+                    int category = pickCategory(random);
+                    String[] titles = CATEGORY_TITLES[category];
+                    String name = NAMES[random.nextInt(NAMES.length)];
+                    String title = titles[random.nextInt(titles.length)];
+                    String city = CITIES[random.nextInt(CITIES.length)];
+                    // Roughly a third of the catalog is in the past
+                    LocalDate date = today.plusDays(random.nextInt(545) - 180);
+                    int total = Math.max(capacities[(int) i], sold[(int) i]);
+                    row.append(idBase + i + 1).append(',')
+                            .append(quote(name + " " + title + " " + (i + 1))).append(',')
+                            .append(quote(name + " " + title.toLowerCase() + " in " + city + ". Book early, popular shows sell out fast.")).append(',')
+                            .append(date).append(',')
+                            .append(String.format("%02d:00:00", 10 + random.nextInt(12))).append(',')
+                            .append(quote("Venue " + (1 + random.nextInt(50)) + ", " + city)).append(',')
+                            .append(total).append(',')
+                            .append(total - sold[(int) i]).append(',')
+                            .append(prices[(int) i]).append(".00,")
+                            .append(CATEGORIES[category]).append('\n');
+                });
+    }
+
+    private void copyUsers(CopyManager copyManager, long idBase) throws SQLException, IOException {
+        // One hash for every user - bcrypt per row would dominate the seeding time
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        copy(copyManager, "users (id, email, password_hash, name, created_at)", userCount, (i, row) -> {
+            long id = idBase + i + 1;
+            row.append(id).append(",seed-user-").append(id).append("@eventconnect.dev,")
+                    .append(quote(passwordHash)).append(",Seed User ").append(id).append(',')
+                    .append(now.minusDays(i % 365)).append('\n');
+        });
+    }
+
+    private void copyBookings(CopyManager copyManager, long eventBase, long userBase, long idBase, int[] prices)
+            throws SQLException, IOException {
+        BookingGenerator generator = new BookingGenerator();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        copy(copyManager, "bookings (id, user_id, event_id, booking_date, quantity, total_price, status)",
+                bookingCount, (i, row) -> {
+                    generator.next();
+                    row.append(idBase + i + 1).append(',')
+                            .append(userBase + generator.user + 1).append(',')
+                            .append(eventBase + generator.event + 1).append(',')
+                            .append(now.minusMinutes(generator.minutesAgo)).append(',')
+                            .append(generator.quantity).append(',')
+                            .append((long) prices[generator.event] * generator.quantity).append(".00,")
+                            .append(generator.cancelled ? "CANCELLED" : "CONFIRMED").append('\n');
+                });
+    }
+
+    private void copy(CopyManager copyManager, String target, long rows, RowWriter writer)
+            throws SQLException, IOException {
+        long start = System.nanoTime();
+        String sql = "COPY " + target + " FROM STDIN WITH (FORMAT csv)";
+        StringBuilder chunk = new StringBuilder(chunkSize * 160);
+        for (long i = 0; i < rows; i++) {
+            writer.write(i, chunk);
+            if ((i + 1) % chunkSize == 0 || i == rows - 1) {
+                copyManager.copyIn(sql, new StringReader(chunk.toString()));
+                chunk.setLength(0);
+            }
+        }
+        long millis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        log.info("Copied {} rows into {} ({} rows/s)", rows, target.substring(0, target.indexOf(' ')), rows * 1000 / millis);
+    }
+
+    private static int pickCategory(Random random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < CATEGORY_WEIGHTS.length; i++) {
+            roll -= CATEGORY_WEIGHTS[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return CATEGORIES.length - 1;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static int coprimeStride(int n) {
+        int stride = 7919;
+        while (gcd(stride, n) != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(long index, StringBuilder row);
+    }
+
+    /**
+     * Deterministic booking stream. Zipf ranks are scattered over the catalog with a coprime stride so
+     * the popular events are not simply the first ids.
+     */
+    private class BookingGenerator {
+
+        private final Random random = new Random(SEED + 2);
+        private final ZipfDistribution popularity = new ZipfDistribution(eventCount, zipfExponent);
+        private final int stride = coprimeStride(eventCount);
+
+        int event;
+        int user;
+        int quantity;
+        boolean cancelled;
+        int minutesAgo;
+
+        void next() {
+            event = (int) ((long) popularity.sample(random) * stride % eventCount);
+            user = random.nextInt(userCount);
+            quantity = QUANTITIES[random.nextInt(QUANTITIES.length)];
+            cancelled = random.nextInt(100) < CANCELLED_PERCENT;
+            minutesAgo = random.nextInt(BOOKING_WINDOW_MINUTES);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.eventconnect.controller;
 
+import com.eventconnect.config.AuthenticatedUser;
 import com.eventconnect.dto.ApiResponse;
 import com.eventconnect.dto.BookingRequest;
 import com.eventconnect.dto.BookingResponse;
-import com.eventconnect.entity.User;
+import com.eventconnect.dto.BookingTicketResponse;
+import com.eventconnect.dto.BulkBookingRequest;
+import com.eventconnect.service.BookingAdmissionQueue;
 import com.eventconnect.service.BookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,29 +22,84 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingAdmissionQueue bookingAdmissionQueue;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<BookingResponse>> createBooking(
-            @AuthenticationPrincipal User user,
+    public ResponseEntity<? extends ApiResponse<?>> createBooking(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody BookingRequest request,
+            @RequestParam(defaultValue = "false") boolean async) {
+        try {
+            if (bookingAdmissionQueue.isEnabled()) {
+                return admissionResult(bookingAdmissionQueue.submit(user.getId(), request, async));
+            }
+            bookingService.checkRateLimit(user.getId());
+            BookingResponse response = bookingService.createBooking(user.getId(), request);
+            return ResponseEntity.ok(ApiResponse.success("Booking confirmed successfully", response));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/hold")
+    public ResponseEntity<ApiResponse<BookingResponse>> holdBooking(
+            @AuthenticationPrincipal AuthenticatedUser user,
             @Valid @RequestBody BookingRequest request) {
         try {
-            BookingResponse response = bookingService.createBooking(user, request);
+            bookingService.checkRateLimit(user.getId());
+            BookingResponse response = bookingService.holdBooking(user.getId(), request);
+            return ResponseEntity.ok(ApiResponse.success("Tickets held until " + response.getHoldExpiresAt(), response));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<ApiResponse<BookingResponse>> confirmBooking(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long id) {
+        try {
+            BookingResponse response = bookingService.confirmBooking(id, user.getId());
             return ResponseEntity.ok(ApiResponse.success("Booking confirmed successfully", response));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<BookingResponse>>> createBookings(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody BulkBookingRequest request) {
+        try {
+            bookingService.checkRateLimit(user.getId());
+            List<BookingResponse> response = bookingService.createBookings(user.getId(), request);
+            return ResponseEntity.ok(ApiResponse.success("Bookings confirmed successfully", response));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/requests/{ticket}")
+    public ResponseEntity<ApiResponse<BookingTicketResponse>> getBookingRequest(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String ticket) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(bookingAdmissionQueue.getTicket(ticket, user.getId())));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getMyBookings(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         List<BookingResponse> bookings = bookingService.getUserBookings(user.getId());
         return ResponseEntity.ok(ApiResponse.success(bookings));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @PathVariable Long id) {
         try {
             BookingResponse booking = bookingService.getBookingById(id, user.getId());
@@ -53,7 +111,7 @@ public class BookingController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<BookingResponse>> cancelBooking(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @PathVariable Long id) {
         try {
             BookingResponse response = bookingService.cancelBooking(id, user.getId());
@@ -62,4 +120,12 @@ public class BookingController {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
+
+    private static ResponseEntity<? extends ApiResponse<?>> admissionResult(BookingTicketResponse ticket) {
+        return switch (ticket.getStatus()) {
+            case CONFIRMED -> ResponseEntity.ok(ApiResponse.success("Booking confirmed successfully", ticket.getBooking()));
+            case REJECTED -> ResponseEntity.badRequest().body(ApiResponse.error(ticket.getMessage()));
+            case PENDING -> ResponseEntity.accepted().body(ApiResponse.success("Booking request queued", ticket));
+        };
+    }
 }
@@ -2,57 +2,196 @@ package com.eventconnect.controller;
 
 import com.eventconnect.dto.ApiResponse;
 import com.eventconnect.dto.EventResponse;
+import com.eventconnect.service.CatalogVersion;
+import com.eventconnect.service.EventAvailability;
+import com.eventconnect.service.EventExportFormat;
+import com.eventconnect.service.EventExportService;
 import com.eventconnect.service.EventService;
+import com.eventconnect.service.ResponseBodyCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final String EXPORT_PERMIT_INTERCEPTOR = EventController.class.getName() + ".exportPermit";
+
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final CatalogVersion catalogVersion;
+    private final EventAvailability eventAvailability;
+    private final ResponseBodyCache responseBodyCache;
+
+    @Value("${catalog.http.max-age:5s}")
+    private Duration catalogMaxAge;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<EventResponse>>> getAllEvents() {
-        List<EventResponse> events = eventService.getAllEvents();
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getAllEvents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        return conditional(request, catalogVersion.getETag(),
+                () -> ApiResponse.success(eventAvailability.overlay(eventService.getAllEvents(after, limit))));
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<ApiResponse<List<EventResponse>>> getUpcomingEvents() {
-        List<EventResponse> events = eventService.getUpcomingEvents();
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<?> getUpcomingEvents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        // "Upcoming" also moves on at midnight
+        return cachedConditional(request, "upcoming:" + after + ":" + limit,
+                catalogVersion.getETag(LocalDate.now().toString()),
+                () -> ApiResponse.success(eventService.getUpcomingEvents(after, limit)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format,
+                                                              WebRequest request) {
+        EventExportFormat exportFormat = EventExportFormat.from(format);
+        EventExportService.ExportPermit permit = eventExportService.tryStartExport();
+        if (permit == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        try {
+            // The body below only runs if the async task does; completion comes however the request ends
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            permit.abandon();
+                        }
+                    });
+            StreamingResponseBody body = out -> {
+                if (!permit.begin()) {
+                    return;
+                }
+                try (permit) {
+                    eventExportService.exportEvents(exportFormat, out);
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("events." + exportFormat.getExtension()).build().toString())
+                    .body(body);
+        } catch (RuntimeException e) {
+            permit.abandon();
+            throw e;
+        }
     }
 
     @GetMapping("/top")
-    public ResponseEntity<ApiResponse<List<EventResponse>>> getTop3MostBooked() {
-        List<EventResponse> events = eventService.getTop3MostBookedEvents();
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<?> getTopBooked(
+            @RequestParam(defaultValue = "3") int limit,
+            @RequestParam(required = false) Integer windowHours,
+            WebRequest request) {
+        if (windowHours != null) {
+            // A sliding window changes without any booking, so it cannot be versioned
+            List<EventResponse> events = eventAvailability.overlay(eventService.getTopBookedEvents(limit, windowHours));
+            return ResponseEntity.ok(ApiResponse.success(events));
+        }
+        return cachedConditional(request, "top:" + limit, catalogVersion.getRankingsETag(),
+                () -> ApiResponse.success(eventService.getTopBookedEvents(limit, null)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id, WebRequest request) {
         try {
-            EventResponse event = eventService.getEventById(id);
-            return ResponseEntity.ok(ApiResponse.success(event));
+            return conditional(request, catalogVersion.getETag(),
+                    () -> ApiResponse.success(eventAvailability.overlay(eventService.getEventById(id))));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<EventResponse>>> searchEvents(@RequestParam String query) {
-        List<EventResponse> events = eventService.searchEvents(query);
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<ApiResponse<List<EventResponse>>> searchEvents(
+            @RequestParam String query,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        return conditional(request, catalogVersion.getETag(),
+                () -> ApiResponse.success(eventService.searchEvents(query, after, limit)));
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<List<EventResponse>>> getEventsByCategory(@PathVariable String category) {
-        List<EventResponse> events = eventService.getEventsByCategory(category);
-        return ResponseEntity.ok(ApiResponse.success(events));
+    public ResponseEntity<ApiResponse<List<EventResponse>>> getEventsByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        return conditional(request, catalogVersion.getETag(),
+                () -> ApiResponse.success(eventAvailability.overlay(
+                        eventService.getEventsByCategory(category, after, limit))));
+    }
+
+    // Catalog reads are the same for every caller: shared caches may keep them for the max age, after
+    // which a matching If-None-Match is answered with 304 before any query or serialization runs
+    private <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        CacheControl cacheControl = CacheControl.maxAge(catalogMaxAge).cachePublic();
+        if (notModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+
+    // Landing-page variant: the body is written from pre-encoded (and pre-gzipped) bytes
+    private ResponseEntity<byte[]> cachedConditional(WebRequest request, String key, String etag,
+                                                     Supplier<ApiResponse<List<EventResponse>>> body) {
+        CacheControl cacheControl = CacheControl.maxAge(catalogMaxAge).cachePublic();
+        boolean acceptsGzip = acceptsGzip(request);
+        // The gzipped bytes get a tag of their own so a cache never answers one encoding with the other
+        String gzipETag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        String matched = notModified(request, etag) ? etag
+                : acceptsGzip && notModified(request, gzipETag) ? gzipETag : null;
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched)
+                    .cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ResponseBodyCache.Body cached = responseBodyCache.get(key, etag, body);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip && cached.gzip() != null) {
+            return response.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return response.eTag(etag).body(cached.json());
+    }
+
+    private static boolean notModified(WebRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        // Weak comparison: the tag matches whether or not it comes back with its W/ prefix
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return ifNoneMatch != null && (ifNoneMatch.contains(opaqueTag) || ifNoneMatch.trim().equals("*"));
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip") && !acceptEncoding.contains("gzip;q=0");
     }
 }
@@ -2,13 +2,16 @@ package com.eventconnect.dto;
 
 import com.eventconnect.entity.Booking;
 import com.eventconnect.entity.BookingStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @Data
 @Builder
@@ -27,6 +30,18 @@ public class BookingResponse {
     private BookingStatus status;
     private String eventImageUrl;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime holdExpiresAt;
+
+    // Used by the JPQL constructor expression in BookingRepository
+    public BookingResponse(Long id, Long eventId, String eventTitle, String eventLocation,
+                           LocalDate eventDate, LocalTime eventTime, LocalDateTime bookingDate,
+                           Integer quantity, BigDecimal totalPrice, BookingStatus status,
+                           String eventImageUrl, LocalDateTime holdExpiresAt) {
+        this(id, eventId, eventTitle, eventLocation, eventDate.toString(), eventTime.toString(),
+                bookingDate, quantity, totalPrice, status, eventImageUrl, holdExpiresAt);
+    }
+
     public static BookingResponse fromEntity(Booking booking) {
         return BookingResponse.builder()
                 .id(booking.getId())
@@ -40,6 +55,7 @@ public class BookingResponse {
                 .totalPrice(booking.getTotalPrice())
                 .status(booking.getStatus())
                 .eventImageUrl(booking.getEvent().getImageUrl())
+                .holdExpiresAt(booking.getHoldExpiresAt())
                 .build();
     }
 }
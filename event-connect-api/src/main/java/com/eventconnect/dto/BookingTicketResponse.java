@@ -0,0 +1,26 @@
+package com.eventconnect.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingTicketResponse {
+
+    public enum Status {
+        PENDING,
+        CONFIRMED,
+        REJECTED
+    }
+
+    private String ticket;
+    private Status status;
+    private String message;
+    private BookingResponse booking;
+}
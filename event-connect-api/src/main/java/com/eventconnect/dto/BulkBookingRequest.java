@@ -0,0 +1,16 @@
+package com.eventconnect.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBookingRequest {
+
+    @NotEmpty(message = "At least one booking is required")
+    @Size(max = 20, message = "At most 20 bookings per request")
+    private List<@Valid BookingRequest> bookings;
+}
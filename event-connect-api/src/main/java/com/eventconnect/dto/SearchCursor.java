@@ -0,0 +1,37 @@
+package com.eventconnect.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Relevance and id of the last search result on a page, encoded as an opaque token for the {@code after}
+ * parameter. A float survives the round trip through its string form exactly, so the keyset comparison
+ * against ts_rank stays exact.
+ */
+@Data
+@AllArgsConstructor
+public class SearchCursor {
+    private float rank;
+    private Long id;
+
+    public String encode() {
+        String raw = "search|" + rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !parts[0].equals("search")) {
+                throw new IllegalArgumentException();
+            }
+            return new SearchCursor(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -5,23 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings", indexes = {
-    @Index(name = "idx_bookings_user_id", columnList = "user_id"),
-    @Index(name = "idx_bookings_event_id", columnList = "event_id")
-})
+@Table(name = "bookings")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Booking {
 
+    // Pooled sequence so inserts can be JDBC-batched; one nextval covers 50 bookings
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +32,11 @@ public class Booking {
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
+    // bookings is hash-partitioned by event_id; updates and deletes include it so they hit one partition
+    @PartitionKey
+    @Column(name = "event_id", insertable = false, updatable = false)
+    private Long eventId;
+
     @Column(name = "booking_date")
     @Builder.Default
     private LocalDateTime bookingDate = LocalDateTime.now();
@@ -46,4 +51,14 @@ public class Booking {
     @Column(nullable = false)
     @Builder.Default
     private BookingStatus status = BookingStatus.CONFIRMED;
+
+    // Only set while the booking is HELD
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
+    // The column is written through the association, keep the partition key in step for later updates
+    @PrePersist
+    private void copyPartitionKey() {
+        eventId = event.getId();
+    }
 }
@@ -3,5 +3,7 @@ package com.eventconnect.entity;
 public enum BookingStatus {
     CONFIRMED,
     CANCELLED,
-    PENDING
+    PENDING,
+    HELD,
+    EXPIRED
 }
@@ -13,9 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "events", indexes = {
-    @Index(name = "idx_events_date", columnList = "date")
-})
+@Table(name = "events")
 @Data
 @Builder
 @NoArgsConstructor
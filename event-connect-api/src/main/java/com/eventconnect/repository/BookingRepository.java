@@ -1,26 +1,66 @@
 package com.eventconnect.repository;
 
+import com.eventconnect.dto.BookingResponse;
 import com.eventconnect.entity.Booking;
 import com.eventconnect.entity.BookingStatus;
+import com.eventconnect.service.BookingHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByUserIdOrderByBookingDateDesc(Long userId);
+    @Query("SELECT new com.eventconnect.dto.BookingResponse(b.id, e.id, e.title, e.location, " +
+           "e.date, e.time, b.bookingDate, b.quantity, b.totalPrice, b.status, e.imageUrl, b.holdExpiresAt) " +
+           "FROM Booking b JOIN b.event e WHERE b.user.id = :userId ORDER BY b.bookingDate DESC")
+    List<BookingResponse> findResponsesByUserIdOrderByBookingDateDesc(@Param("userId") Long userId);
 
     List<Booking> findByUserIdAndStatus(Long userId, BookingStatus status);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
+    // Seat holds - both queries only touch the partial indexes on HELD rows (db/migration)
+    @Query("SELECT new com.eventconnect.service.BookingHold(b.id, b.holdExpiresAt) FROM Booking b " +
+           "WHERE b.status = com.eventconnect.entity.BookingStatus.HELD AND b.id > :afterId ORDER BY b.id")
+    List<BookingHold> findHoldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.status = com.eventconnect.entity.BookingStatus.HELD " +
+           "AND b.holdExpiresAt <= :now ORDER BY b.holdExpiresAt")
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id IN :ids " +
+           "AND b.status = com.eventconnect.entity.BookingStatus.HELD ORDER BY b.id")
+    List<Booking> findHeldByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.user.id = :userId " +
            "AND b.bookingDate > :since")
     long countRecentBookingsByUser(@Param("userId") Long userId,
                                    @Param("since") LocalDateTime since);
 
     boolean existsByUserIdAndEventIdAndStatus(Long userId, Long eventId, BookingStatus status);
+
+    @Query("SELECT b.event.id, COUNT(b) FROM Booking b WHERE b.status = :status GROUP BY b.event.id")
+    List<Object[]> countByEventAndStatus(@Param("status") BookingStatus status);
+
+    @Query("SELECT b.id, b.status FROM Booking b WHERE b.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") List<Long> ids);
+
+    // Hour buckets are hours since the epoch, see BookingLeaderboard
+    @Query(value = "SELECT event_id, CAST(EXTRACT(EPOCH FROM date_trunc('hour', booking_date)) / 3600 AS BIGINT), " +
+                   "COUNT(*) FROM bookings WHERE status = 'CONFIRMED' AND booking_date >= :since GROUP BY 1, 2",
+           nativeQuery = true)
+    List<Object[]> countConfirmedByEventAndHourSince(@Param("since") LocalDateTime since);
 }
@@ -1,25 +1,103 @@
 package com.eventconnect.repository;
 
 import com.eventconnect.entity.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    List<Event> findByDateGreaterThanEqualOrderByDateAsc(LocalDate date);
+    // Keyset pages ordered by (date, id). The redundant "e.date >= :date" lets the
+    // (date, id) index seek straight to the cursor instead of filtering from the start.
 
-    List<Event> findByCategoryIgnoreCase(String category);
+    List<Event> findAllByOrderByDateAscIdAsc(Pageable pageable);
 
-    @Query("SELECT e FROM Event e WHERE LOWER(e.title) LIKE LOWER(CONCAT('%', :search, '%')) " +
-           "OR LOWER(e.location) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<Event> searchEvents(String search);
+    @Query("SELECT e FROM Event e WHERE e.date >= :date " +
+           "AND (e.date > :date OR e.id > :id) ORDER BY e.date ASC, e.id ASC")
+    List<Event> findAllAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT e FROM Event e LEFT JOIN e.bookings b " +
-           "GROUP BY e.id ORDER BY COUNT(b.id) DESC LIMIT 3")
-    List<Event> findTop3MostBookedEvents();
+    // Forward-only cursor for exports: rows arrive in fetch-size round trips (only inside a
+    // transaction on PostgreSQL) and are never snapshotted for dirty checking
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e ORDER BY e.date ASC, e.id ASC")
+    Stream<Event> streamAllByOrderByDateAscIdAsc();
+
+    List<Event> findByDateGreaterThanEqualOrderByDateAscIdAsc(LocalDate date, Pageable pageable);
+
+    // Spelled out so both category queries match the (lower(category), date, id) index; the derived
+    // IgnoreCase query would compare upper()
+    @Query("SELECT e FROM Event e WHERE LOWER(e.category) = LOWER(:category) ORDER BY e.date ASC, e.id ASC")
+    List<Event> findByCategoryIgnoreCaseOrderByDateAscIdAsc(@Param("category") String category, Pageable pageable);
+
+    @Query("SELECT e FROM Event e WHERE LOWER(e.category) = LOWER(:category) AND e.date >= :date " +
+           "AND (e.date > :date OR e.id > :id) ORDER BY e.date ASC, e.id ASC")
+    List<Event> findByCategoryAfter(@Param("category") String category, @Param("date") LocalDate date,
+                                    @Param("id") Long id, Pageable pageable);
+
+    // Weighted search document, kept in sync with idx_events_search in V2__holds_sequence_and_indexes.sql
+    String SEARCH_DOCUMENT =
+            "(setweight(to_tsvector('simple', coalesce(e.title, '')), 'A') || " +
+            "setweight(to_tsvector('simple', coalesce(e.category, '')), 'B') || " +
+            "setweight(to_tsvector('simple', coalesce(e.location, '')), 'B') || " +
+            "setweight(to_tsvector('simple', coalesce(e.description, '')), 'C'))";
+
+    // Materialized so each match is ranked once; otherwise the cursor condition is pushed into the scan and
+    // ts_rank runs twice per row
+    String RANKED_MATCHES =
+            "WITH ranked AS MATERIALIZED (" +
+            "SELECT e.id, ts_rank(" + SEARCH_DOCUMENT + ", to_tsquery('simple', :query)) AS search_rank " +
+            "FROM events e WHERE " + SEARCH_DOCUMENT + " @@ to_tsquery('simple', :query)) ";
+
+    // (id, rank) of the best matches; ranked by relevance, ties broken by id so the order is total
+    @Query(value = RANKED_MATCHES + "SELECT id, search_rank FROM ranked " +
+                   "ORDER BY search_rank DESC, id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> searchRanks(@Param("query") String tsQuery, @Param("limit") int limit);
+
+    // Keyset page after (rank, id): no skipped rows to read past, and no shifts when events are added
+    @Query(value = RANKED_MATCHES + "SELECT id, search_rank FROM ranked " +
+                   "WHERE search_rank < :rank OR (search_rank = :rank AND id > :id) " +
+                   "ORDER BY search_rank DESC, id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> searchRanksAfter(@Param("query") String tsQuery, @Param("rank") float rank,
+                                    @Param("id") Long id, @Param("limit") int limit);
+
+    @Query("SELECT e.availableTickets FROM Event e WHERE e.id = :id")
+    Optional<Integer> findAvailableTicketsById(@Param("id") Long id);
+
+    // (id, available tickets) of the events of one catalog response, see EventAvailability
+    @Query("SELECT e.id, e.availableTickets FROM Event e WHERE e.id IN :ids")
+    List<Object[]> findAvailableTicketsByIdIn(@Param("ids") List<Long> ids);
+
+    // Read-modify-write inventory mode: the count is read under a row lock, then written back
+    @Query(value = "SELECT available_tickets FROM events WHERE id = :id FOR UPDATE", nativeQuery = true)
+    int lockAvailableTicketsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableTickets = :available WHERE e.id = :id")
+    int setAvailableTickets(@Param("id") Long id, @Param("available") int available);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableTickets = e.availableTickets - :quantity " +
+           "WHERE e.id = :id AND e.availableTickets >= :quantity")
+    int reserveTickets(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableTickets = e.availableTickets + :quantity WHERE e.id = :id")
+    int releaseTickets(@Param("id") Long id, @Param("quantity") int quantity);
 }
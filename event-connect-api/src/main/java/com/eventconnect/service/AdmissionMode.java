@@ -0,0 +1,6 @@
+package com.eventconnect.service;
+
+public enum AdmissionMode {
+    DIRECT,
+    QUEUED
+}
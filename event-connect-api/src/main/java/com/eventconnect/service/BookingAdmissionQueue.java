@@ -0,0 +1,225 @@
+package com.eventconnect.service;
+
+import com.eventconnect.dto.BookingRequest;
+import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.dto.BookingTicketResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flash-sale admission: booking requests are queued per event and drained by at most one
+ * task per event at a time, so a hot event sees one inventory update and one insert round per
+ * micro-batch instead of thousands of transactions racing on its row. A lane is dropped once its
+ * queue has drained, so only events with bookings in flight hold one.
+ */
+@Slf4j
+@Service
+public class BookingAdmissionQueue {
+
+    private final BookingService bookingService;
+    private final EventService eventService;
+    private final Executor executor;
+    private final AdmissionMode mode;
+    private final int maxBatchSize;
+    private final int maxQueueSize;
+    private final Duration syncTimeout;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Cache<String, PendingBooking> tickets;
+
+    private volatile boolean closed;
+
+    public BookingAdmissionQueue(BookingService bookingService,
+                                 EventService eventService,
+                                 @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+                                 @Value("${booking.admission.mode:direct}") AdmissionMode mode,
+                                 @Value("${booking.admission.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${booking.admission.max-queue-size:50000}") int maxQueueSize,
+                                 @Value("${booking.admission.sync-timeout:2s}") Duration syncTimeout,
+                                 @Value("${booking.admission.ticket-ttl:10m}") Duration ticketTtl,
+                                 @Value("${booking.admission.max-tickets:200000}") long maxTickets) {
+        this.bookingService = bookingService;
+        this.eventService = eventService;
+        this.executor = executor;
+        this.mode = mode;
+        this.maxBatchSize = maxBatchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.syncTimeout = syncTimeout;
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterWrite(ticketTtl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return mode == AdmissionMode.QUEUED;
+    }
+
+    /**
+     * Queues the request and waits up to the sync timeout for its batch to commit.
+     * Async callers, and callers whose batch has not committed in time, get a ticket to poll.
+     */
+    public BookingTicketResponse submit(Long userId, BookingRequest request, boolean async) {
+        if (closed) {
+            throw new RuntimeException("Booking service is shutting down, please try again.");
+        }
+        bookingService.checkRateLimit(userId);
+        // Also keeps unknown event ids from creating lanes
+        eventService.getEventById(request.getEventId());
+
+        PendingBooking pending = new PendingBooking(userId, request.getQuantity());
+        // Queued under the map's lock for the event, so the request cannot land on a lane being dropped
+        AtomicBoolean queued = new AtomicBoolean();
+        Lane lane = lanes.compute(request.getEventId(), (eventId, existing) -> {
+            Lane target = existing == null ? new Lane(eventId) : existing;
+            queued.set(target.enqueue(pending));
+            return target;
+        });
+        if (!queued.get()) {
+            throw new RuntimeException("Too many pending bookings for this event, please try again shortly.");
+        }
+        tickets.put(pending.getTicket(), pending);
+        lane.scheduleDrain();
+
+        if (!async) {
+            try {
+                pending.getResult().get(syncTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (TimeoutException | ExecutionException ignored) {
+                // Reported through the ticket status below
+            }
+        }
+        return toResponse(pending);
+    }
+
+    public BookingTicketResponse getTicket(String ticket, Long userId) {
+        PendingBooking pending = tickets.getIfPresent(ticket);
+        if (pending == null || !pending.getUserId().equals(userId)) {
+            throw new RuntimeException("Booking request not found");
+        }
+        return toResponse(pending);
+    }
+
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        lanes.values().forEach(Lane::failAll);
+    }
+
+    private void admit(Long eventId, List<PendingBooking> batch) {
+        try {
+            bookingService.admitBatch(eventId, batch);
+            batch.forEach(PendingBooking::publish);
+        } catch (RuntimeException e) {
+            log.warn("Booking batch for event {} failed: {}", eventId, e.getMessage());
+            batch.forEach(pending -> pending.fail(e.getMessage()));
+        }
+    }
+
+    private static BookingTicketResponse toResponse(PendingBooking pending) {
+        CompletableFuture<BookingResponse> result = pending.getResult();
+        BookingTicketResponse.BookingTicketResponseBuilder response = BookingTicketResponse.builder()
+                .ticket(pending.getTicket());
+        if (!result.isDone()) {
+            return response.status(BookingTicketResponse.Status.PENDING).build();
+        }
+        try {
+            return response.status(BookingTicketResponse.Status.CONFIRMED)
+                    .booking(result.join())
+                    .build();
+        } catch (CompletionException e) {
+            return response.status(BookingTicketResponse.Status.REJECTED)
+                    .message(e.getCause().getMessage())
+                    .build();
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final Long eventId;
+        private final ConcurrentLinkedQueue<PendingBooking> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        boolean enqueue(PendingBooking pending) {
+            if (size.incrementAndGet() > maxQueueSize) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.add(pending);
+            return true;
+        }
+
+        // At most one drain per event is scheduled or running, which makes it the single writer
+        private void scheduleDrain() {
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                failAll();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+                PendingBooking pending;
+                while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                    batch.add(pending);
+                }
+                size.addAndGet(-batch.size());
+                if (!batch.isEmpty()) {
+                    admit(eventId, batch);
+                }
+            } finally {
+                draining.set(false);
+                // Nothing queued and no drain scheduled: drop the lane, a later request starts a new one
+                lanes.computeIfPresent(eventId, (id, lane) ->
+                        lane == this && queue.isEmpty() && !draining.get() ? null : lane);
+                scheduleDrain();
+            }
+        }
+
+        void failAll() {
+            PendingBooking pending;
+            while ((pending = queue.poll()) != null) {
+                size.decrementAndGet();
+                pending.fail("Booking service is shutting down, please try again.");
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.eventconnect.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An outstanding seat hold in {@link HoldExpiryScheduler}'s delay queue. Only primitives are kept
+ * so millions of holds stay cheap to track.
+ */
+@Getter
+public class BookingHold implements Delayed {
+
+    private final long bookingId;
+    private final long expiresAtMillis;
+
+    // Used by the JPQL constructor expression in BookingRepository
+    public BookingHold(Long bookingId, LocalDateTime expiresAt) {
+        this.bookingId = bookingId;
+        this.expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(expiresAtMillis, ((BookingHold) other).expiresAtMillis);
+    }
+}
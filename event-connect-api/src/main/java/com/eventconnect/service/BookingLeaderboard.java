@@ -0,0 +1,264 @@
+package com.eventconnect.service;
+
+import com.eventconnect.entity.Booking;
+import com.eventconnect.entity.BookingStatus;
+import com.eventconnect.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running count of CONFIRMED bookings per event, so the landing page does not aggregate the
+ * bookings table on every request. All-time ranks live in a skip list (O(log n) per booking),
+ * windowed ranks are summed from hourly buckets. The board is rebuilt from the database on
+ * startup and periodically, which also picks up bookings made on other instances. Changes
+ * committed while a rebuild reads its snapshot are held back and replayed onto the new board
+ * unless the snapshot already saw them.
+ */
+@Slf4j
+@Service
+public class BookingLeaderboard {
+
+    private final BookingRepository bookingRepository;
+    private final EventCatalogCache eventCatalogCache;
+    private final TransactionTemplate snapshotTransaction;
+
+    @Value("${leaderboard.max-window-hours:168}")
+    private int maxWindowHours;
+
+    private volatile Board board = new Board();
+
+    // Guards the swap; non-null while a rebuild is reading its snapshot
+    private final Object lock = new Object();
+    private List<Change> heldBack;
+
+    public BookingLeaderboard(BookingRepository bookingRepository,
+                              EventCatalogCache eventCatalogCache,
+                              PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.eventCatalogCache = eventCatalogCache;
+        // One snapshot for the counts and the replay check; read-write so it is taken on the primary
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${leaderboard.rebuild-interval-ms:300000}",
+               fixedDelayString = "${leaderboard.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        // Hold back changes from before the snapshot starts, so every commit it misses is held back
+        synchronized (lock) {
+            heldBack = new ArrayList<>();
+        }
+        try {
+            Board rebuilt = snapshotTransaction.execute(status -> {
+                Board snapshot = new Board();
+                for (Object[] row : bookingRepository.countByEventAndStatus(BookingStatus.CONFIRMED)) {
+                    snapshot.addTotal((Long) row[0], ((Number) row[1]).longValue());
+                }
+                LocalDateTime since = LocalDateTime.now().minusHours(maxWindowHours);
+                for (Object[] row : bookingRepository.countConfirmedByEventAndHourSince(since)) {
+                    snapshot.addHourly(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                            ((Number) row[2]).longValue());
+                }
+                synchronized (lock) {
+                    replayUnseen(snapshot, heldBack);
+                    board = snapshot;
+                    heldBack = null;
+                }
+                return snapshot;
+            });
+            eventCatalogCache.rankingsChanged();
+            log.debug("Rebuilt booking leaderboard for {} events", rebuilt.totals.size());
+        } finally {
+            synchronized (lock) {
+                heldBack = null;
+            }
+        }
+    }
+
+    public void recordConfirmed(Booking booking) {
+        Change change = new Change(booking.getId(), booking.getEvent().getId(), booking.getBookingDate(), 1);
+        afterCommit(() -> record(change));
+    }
+
+    public void recordCancelled(Booking booking) {
+        Change change = new Change(booking.getId(), booking.getEvent().getId(), booking.getBookingDate(), -1);
+        afterCommit(() -> record(change));
+    }
+
+    long getConfirmedCount(Long eventId) {
+        return board.totals.getOrDefault(eventId, 0L);
+    }
+
+    public List<Long> getTopEventIds(int limit) {
+        Set<Long> eventIds = new LinkedHashSet<>();
+        for (Rank rank : board.ranking) {
+            if (eventIds.size() == limit) {
+                break;
+            }
+            // An event can briefly appear twice while its count moves, keep the first (higher) one
+            eventIds.add(rank.eventId);
+        }
+        return new ArrayList<>(eventIds);
+    }
+
+    public List<Long> getTopEventIds(int limit, int windowHours) {
+        if (windowHours < 1 || windowHours > maxWindowHours) {
+            throw new RuntimeException("Window must be between 1 and " + maxWindowHours + " hours");
+        }
+
+        long currentHour = hourOf(LocalDateTime.now());
+        Map<Long, Long> counts = new HashMap<>();
+        board.hourly.forEach((hour, perEvent) -> {
+            if (hour > currentHour - windowHours) {
+                perEvent.forEach((eventId, count) -> counts.merge(eventId, count.get(), Long::sum));
+            }
+        });
+
+        Comparator<Map.Entry<Long, Long>> byRank = Map.Entry.<Long, Long>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Long>> top = new PriorityQueue<>(byRank);
+        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> eventIds = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            eventIds.add(0, top.poll().getKey());
+        }
+        return eventIds;
+    }
+
+    private void record(Change change) {
+        synchronized (lock) {
+            apply(board, change);
+            if (heldBack != null) {
+                heldBack.add(change);
+            }
+        }
+        eventCatalogCache.rankingsChanged();
+    }
+
+    private void apply(Board target, Change change) {
+        target.addTotal(change.eventId, change.delta);
+        long hour = hourOf(change.bookingDate);
+        if (hour > hourOf(LocalDateTime.now()) - maxWindowHours) {
+            target.addHourly(change.eventId, hour, change.delta);
+        }
+    }
+
+    // Runs in the snapshot's transaction: a booking's status as of the snapshot tells whether a change
+    // committed before it (a confirmation is counted once the booking is CONFIRMED or CANCELLED, a
+    // cancellation once it is CANCELLED)
+    private void replayUnseen(Board snapshot, List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Long> bookingIds = changes.stream().map(Change::bookingId).distinct().toList();
+        Map<Long, BookingStatus> seen = new HashMap<>();
+        for (Object[] row : bookingRepository.findStatusesByIdIn(bookingIds)) {
+            seen.put((Long) row[0], (BookingStatus) row[1]);
+        }
+        for (Change change : changes) {
+            BookingStatus status = seen.get(change.bookingId);
+            boolean counted = change.delta > 0
+                    ? status == BookingStatus.CONFIRMED || status == BookingStatus.CANCELLED
+                    : status == BookingStatus.CANCELLED;
+            if (!counted) {
+                apply(snapshot, change);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Hours since the epoch, matching the bucketing done in BookingRepository
+    private static long hourOf(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private record Change(Long bookingId, Long eventId, LocalDateTime bookingDate, long delta) {
+    }
+
+    private static final class Board {
+        private final Map<Long, Long> totals = new ConcurrentHashMap<>();
+        private final NavigableSet<Rank> ranking = new ConcurrentSkipListSet<>();
+        private final Map<Long, Map<Long, AtomicLong>> hourly = new ConcurrentHashMap<>();
+
+        private void addTotal(Long eventId, long delta) {
+            totals.compute(eventId, (id, previous) -> {
+                long before = previous == null ? 0 : previous;
+                long after = before + delta;
+                // Insert the new rank before dropping the old one so readers never miss the event
+                if (after > 0) {
+                    ranking.add(new Rank(after, id));
+                }
+                ranking.remove(new Rank(before, id));
+                return after;
+            });
+        }
+
+        private void addHourly(Long eventId, long hour, long delta) {
+            hourly.computeIfAbsent(hour, h -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(eventId, id -> new AtomicLong())
+                    .addAndGet(delta);
+        }
+    }
+
+    private static final class Rank implements Comparable<Rank> {
+        private final long count;
+        private final long eventId;
+
+        private Rank(long count, long eventId) {
+            this.count = count;
+            this.eventId = eventId;
+        }
+
+        @Override
+        public int compareTo(Rank other) {
+            int byCount = Long.compare(other.count, count);
+            return byCount != 0 ? byCount : Long.compare(eventId, other.eventId);
+        }
+    }
+}
@@ -1,73 +1,211 @@
 package com.eventconnect.service;
 
 import com.eventconnect.config.RateLimitConfig;
+import com.eventconnect.config.ReadYourWrites;
 import com.eventconnect.dto.BookingRequest;
 import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.dto.BulkBookingRequest;
 import com.eventconnect.entity.Booking;
 import com.eventconnect.entity.BookingStatus;
 import com.eventconnect.entity.Event;
-import com.eventconnect.entity.User;
 import com.eventconnect.repository.BookingRepository;
+import com.eventconnect.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
     private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
     private final EventService eventService;
     private final RateLimitConfig rateLimitConfig;
+    private final BookingLeaderboard bookingLeaderboard;
+    private final HoldExpiryScheduler holdExpiryScheduler;
+    private final ReadYourWrites readYourWrites;
 
+    @Value("${booking.hold.ttl:10m}")
+    private Duration holdTtl;
+
+    @Timed(value = "booking.requests", histogram = true)
     @Transactional
-    public BookingResponse createBooking(User user, BookingRequest request) {
-        // Rate limiting check
-        if (!rateLimitConfig.tryConsume(user.getId())) {
-            throw new RuntimeException("Rate limit exceeded. Maximum 5 bookings per minute allowed.");
+    public BookingResponse createBooking(Long userId, BookingRequest request) {
+        Event event = eventService.getEventEntityById(request.getEventId());
+
+        // Reserve tickets
+        if (!eventService.updateEventAvailability(event, request.getQuantity())) {
+            throw new SoldOutException("Not enough tickets available. Only " +
+                eventService.getAvailableTickets(event) + " tickets remaining.");
         }
 
+        Booking booking = bookingRepository.save(newBooking(userId, event, request.getQuantity()));
+        bookingLeaderboard.recordConfirmed(booking);
+        readYourWrites.recordWrite(userId);
+
+        return BookingResponse.fromEntity(booking);
+    }
+
+    // Reserves tickets for checkout; they return to the event unless confirmed before the hold expires
+    @Timed(value = "booking.requests", histogram = true)
+    @Transactional
+    public BookingResponse holdBooking(Long userId, BookingRequest request) {
         Event event = eventService.getEventEntityById(request.getEventId());
+        if (!eventService.updateEventAvailability(event, request.getQuantity())) {
+            throw new SoldOutException("Not enough tickets available. Only " +
+                eventService.getAvailableTickets(event) + " tickets remaining.");
+        }
+
+        Booking booking = newBooking(userId, event, request.getQuantity());
+        booking.setStatus(BookingStatus.HELD);
+        booking.setHoldExpiresAt(LocalDateTime.now().plus(holdTtl));
+        booking = bookingRepository.save(booking);
+        holdExpiryScheduler.schedule(booking);
+        readYourWrites.recordWrite(userId);
 
-        // Check ticket availability
-        if (event.getAvailableTickets() < request.getQuantity()) {
-            throw new RuntimeException("Not enough tickets available. Only " +
-                event.getAvailableTickets() + " tickets remaining.");
+        return BookingResponse.fromEntity(booking);
+    }
+
+    @Timed(value = "booking.requests", histogram = true)
+    @Transactional
+    public BookingResponse confirmBooking(Long bookingId, Long userId) {
+        // Locked so a confirm cannot interleave with the hold being expired
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new RuntimeException("Booking not found"));
+
+        if (!booking.getUser().getId().equals(userId)) {
+            throw new RuntimeException("You can only confirm your own bookings");
+        }
+        if (booking.getStatus() != BookingStatus.HELD) {
+            throw new RuntimeException("Booking is not on hold");
+        }
+        if (!booking.getHoldExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new RuntimeException("Hold has expired");
         }
 
-        // Calculate total price
-        BigDecimal totalPrice = event.getPrice().multiply(BigDecimal.valueOf(request.getQuantity()));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setHoldExpiresAt(null);
+        bookingLeaderboard.recordConfirmed(booking);
+        readYourWrites.recordWrite(userId);
 
-        // Create booking
-        Booking booking = Booking.builder()
-                .user(user)
+        return BookingResponse.fromEntity(booking);
+    }
+
+    // All-or-nothing: one inventory update per event and a single batched insert for every booking
+    @Timed(value = "booking.requests", histogram = true)
+    @Transactional
+    public List<BookingResponse> createBookings(Long userId, BulkBookingRequest request) {
+        List<BookingRequest> items = request.getBookings();
+
+        // Reserve in event id order so concurrent bulk bookings take row locks in the same order
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.forEach(item -> quantities.merge(item.getEventId(), item.getQuantity(), Integer::sum));
+        Map<Long, Event> events = new HashMap<>();
+        quantities.forEach((eventId, quantity) -> {
+            Event event = eventService.getEventEntityById(eventId);
+            if (!eventService.updateEventAvailability(event, quantity)) {
+                throw new SoldOutException("Not enough tickets available for " + event.getTitle() + ". Only " +
+                    eventService.getAvailableTickets(event) + " tickets remaining.");
+            }
+            events.put(eventId, event);
+        });
+
+        List<Booking> bookings = bookingRepository.saveAll(items.stream()
+                .map(item -> newBooking(userId, events.get(item.getEventId()), item.getQuantity()))
+                .toList());
+        bookings.forEach(bookingLeaderboard::recordConfirmed);
+        readYourWrites.recordWrite(userId);
+
+        return bookings.stream()
+                .map(BookingResponse::fromEntity)
+                .toList();
+    }
+
+    // Call before the booking transaction opens: the distributed limiter needs a pooled connection of its own,
+    // and waiting for one while holding another can exhaust the pool under concurrent bookings. A bulk request
+    // counts once, otherwise any bulk larger than the bucket capacity could never succeed
+    public void checkRateLimit(Long userId) {
+        if (!rateLimitConfig.tryConsume(userId)) {
+            throw new RateLimitExceededException("Rate limit exceeded. Maximum 5 bookings per minute allowed.");
+        }
+    }
+
+    private Booking newBooking(Long userId, Event event, int quantity) {
+        return Booking.builder()
+                .user(userRepository.getReferenceById(userId))
                 .event(event)
-                .quantity(request.getQuantity())
-                .totalPrice(totalPrice)
+                .quantity(quantity)
+                .totalPrice(event.getPrice().multiply(BigDecimal.valueOf(quantity)))
                 .status(BookingStatus.CONFIRMED)
                 .build();
+    }
 
-        booking = bookingRepository.save(booking);
+    // One inventory update and one insert round for a batch of queued requests for the same event
+    @Transactional
+    public void admitBatch(Long eventId, List<PendingBooking> batch) {
+        Event event = eventService.getEventEntityById(eventId);
+        int available = eventService.getAvailableTickets(event);
+
+        // First come, first served; a request that does not fit does not block smaller ones behind it
+        List<PendingBooking> admitted = new ArrayList<>(batch.size());
+        int total = 0;
+        for (PendingBooking pending : batch) {
+            if (pending.getQuantity() <= available - total) {
+                admitted.add(pending);
+                total += pending.getQuantity();
+            } else {
+                pending.reject("Not enough tickets available. Only " + (available - total) + " tickets remaining.");
+            }
+        }
+        if (admitted.isEmpty()) {
+            return;
+        }
 
-        // Update event availability
-        eventService.updateEventAvailability(event, request.getQuantity());
+        if (!eventService.updateEventAvailability(event, total)) {
+            // Direct bookings or another instance took tickets since the read, reserve one by one
+            admitted.removeIf(pending -> {
+                if (eventService.updateEventAvailability(event, pending.getQuantity())) {
+                    return false;
+                }
+                pending.reject("Not enough tickets available.");
+                return true;
+            });
+        }
 
-        return BookingResponse.fromEntity(booking);
+        List<Booking> bookings = bookingRepository.saveAll(admitted.stream()
+                .map(pending -> newBooking(pending.getUserId(), event, pending.getQuantity()))
+                .toList());
+
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            bookingLeaderboard.recordConfirmed(booking);
+            // Admitted off the request thread, so the routing cannot see whose write this is
+            readYourWrites.recordWrite(admitted.get(i).getUserId());
+            admitted.get(i).accept(BookingResponse.fromEntity(booking));
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<BookingResponse> getUserBookings(Long userId) {
-        return bookingRepository.findByUserIdOrderByBookingDateDesc(userId).stream()
-                .map(BookingResponse::fromEntity)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByUserIdOrderByBookingDateDesc(userId);
     }
 
+    @Timed(value = "booking.requests", histogram = true)
     @Transactional
     public BookingResponse cancelBooking(Long bookingId, Long userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
 
         // Verify ownership
@@ -79,17 +217,28 @@ public class BookingService {
         if (booking.getStatus() == BookingStatus.CANCELLED) {
             throw new RuntimeException("Booking is already cancelled");
         }
+        // Its tickets have already been returned
+        if (booking.getStatus() == BookingStatus.EXPIRED) {
+            throw new RuntimeException("Booking hold has already expired");
+        }
 
         // Cancel booking
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.CANCELLED);
+        booking.setHoldExpiresAt(null);
         bookingRepository.save(booking);
+        if (previousStatus == BookingStatus.CONFIRMED) {
+            bookingLeaderboard.recordCancelled(booking);
+        }
 
         // Restore event availability
         eventService.restoreEventAvailability(booking.getEvent(), booking.getQuantity());
+        readYourWrites.recordWrite(userId);
 
         return BookingResponse.fromEntity(booking);
     }
 
+    @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long bookingId, Long userId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
@@ -0,0 +1,60 @@
+package com.eventconnect.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ETags for catalog responses, so clients revalidate with If-None-Match and get a 304 without the
+ * database being touched.
+ * <p>
+ * A catalog tag stands for the events' static fields. Bookings do not change it: availability is laid
+ * over the cached responses live (see EventAvailability), so the tags are weak - two bodies under one
+ * tag may differ in their ticket counts. Every tag also names a time slot of {@code catalog.version.ttl}
+ * and is never reused for longer than that, which bounds how old a revalidated count can be and carries
+ * changes made on other replicas.
+ * <p>
+ * Top-event tags also carry the rankings version, bumped whenever this instance's leaderboard moves.
+ */
+@Component
+public class CatalogVersion {
+
+    // Differs per process, so a restarted instance or a replica never reuses a version for other content
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(46656), 36);
+    private final AtomicLong rankings = new AtomicLong();
+    private final long ttlMillis;
+
+    public CatalogVersion(@Value("${catalog.version.ttl:30s}") Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    // Called once the change is visible, e.g. from an after-commit callback
+    public void rankingsChanged() {
+        rankings.incrementAndGet();
+    }
+
+    public long rankings() {
+        return rankings.get();
+    }
+
+    public String getETag() {
+        return "W/\"" + epoch + "-" + slot() + "\"";
+    }
+
+    // For responses that also depend on something outside the catalog, such as today's date
+    public String getETag(String qualifier) {
+        return "W/\"" + epoch + "-" + slot() + "-" + qualifier + "\"";
+    }
+
+    public String getRankingsETag() {
+        return getETag("r" + rankings.get());
+    }
+
+    private long slot() {
+        return System.currentTimeMillis() / ttlMillis;
+    }
+}
@@ -0,0 +1,125 @@
+package com.eventconnect.service;
+
+import com.eventconnect.dto.CursorPage;
+import com.eventconnect.dto.EventResponse;
+import com.eventconnect.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live ticket counts for catalog responses. Event lists and details are cached whole, but availability
+ * moves with every booking; it is laid over the cached responses on the way out instead of each booking
+ * evicting every page its event is on.
+ * <p>
+ * Counts are cached per event until it changes on this instance (or for {@code catalog.version.ttl},
+ * which bounds changes made on other replicas) and loaded from the primary in one query per response.
+ */
+@Service
+public class EventAvailability {
+
+    private static final int STRIPES = 1024;
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, Integer> counts;
+    // Bumped before a changed count is evicted; a load that saw an older generation must not be kept
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public EventAvailability(EventRepository eventRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${catalog.availability.max-size:100000}") long maxSize,
+                             @Value("${catalog.version.ttl:30s}") Duration ttl) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Call once the change is visible, i.e. after its transaction commits
+    public void changed(Long eventId) {
+        generations.incrementAndGet(stripe(eventId));
+        counts.invalidate(eventId);
+    }
+
+    /**
+     * Sum of the events' generations: it only grows, so a response built when it had some value is out of
+     * date once it has another. Read it before the counts the response is built from.
+     */
+    public long stamp(List<Long> eventIds) {
+        long stamp = 0;
+        for (Long eventId : eventIds) {
+            stamp += generations.get(stripe(eventId));
+        }
+        return stamp;
+    }
+
+    public EventResponse overlay(EventResponse event) {
+        return overlay(List.of(event)).get(0);
+    }
+
+    public CursorPage<EventResponse> overlay(CursorPage<EventResponse> page) {
+        return new CursorPage<>(overlay(page.getItems()), page.getNextCursor());
+    }
+
+    // Copies, the cached responses are shared
+    public List<EventResponse> overlay(List<EventResponse> events) {
+        Map<Long, Integer> available = getAvailableTickets(events.stream().map(EventResponse::getId).toList());
+        List<EventResponse> live = new ArrayList<>(events.size());
+        for (EventResponse event : events) {
+            Integer count = available.get(event.getId());
+            live.add(count == null || count.equals(event.getAvailableTickets())
+                    ? event
+                    : event.toBuilder().availableTickets(count).build());
+        }
+        return live;
+    }
+
+    private Map<Long, Integer> getAvailableTickets(List<Long> eventIds) {
+        Map<Long, Integer> available = new HashMap<>(counts.getAllPresent(eventIds));
+        List<Long> missing = eventIds.stream().filter(id -> !available.containsKey(id)).distinct().toList();
+        if (missing.isEmpty()) {
+            return available;
+        }
+
+        long[] seen = new long[missing.size()];
+        for (int i = 0; i < seen.length; i++) {
+            seen[i] = generations.get(stripe(missing.get(i)));
+        }
+        // Not read-only: the counts are shared by every user of this instance, so they come from the primary
+        List<Object[]> rows = transactionTemplate.execute(status -> eventRepository.findAvailableTicketsByIdIn(missing));
+        Map<Long, Integer> loaded = new HashMap<>();
+        rows.forEach(row -> loaded.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue()));
+        available.putAll(loaded);
+
+        for (int i = 0; i < seen.length; i++) {
+            Long eventId = missing.get(i);
+            Integer count = loaded.get(eventId);
+            if (count == null) {
+                continue;
+            }
+            // Put first, then drop it if the event changed since the read; the other order could keep
+            // a count read before a booking committed
+            counts.put(eventId, count);
+            if (generations.get(stripe(eventId)) != seen[i]) {
+                counts.invalidate(eventId);
+            }
+        }
+        return available;
+    }
+
+    private static int stripe(Long eventId) {
+        return Long.hashCode(eventId) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventconnect.service;
+
+import com.eventconnect.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventCatalogCache {
+
+    private final CacheManager cacheManager;
+    private final CatalogVersion catalogVersion;
+    private final EventAvailability eventAvailability;
+
+    // Only the event's count goes: cached pages and details keep their static fields and get the new count
+    // laid over them (EventAvailability), and their tags stay valid
+    public void availabilityChanged(Long eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventAvailability.changed(eventId);
+                }
+            });
+        } else {
+            eventAvailability.changed(eventId);
+        }
+    }
+
+    // The leaderboard moves after the booking commits; a ranking read in between must not stay cached
+    // or be served under the new version. Runs outside any transaction
+    public void rankingsChanged() {
+        Cache top = cacheManager.getCache(CacheConfig.TOP_EVENTS);
+        if (top != null) {
+            top.invalidate();
+        }
+        catalogVersion.rankingsChanged();
+    }
+
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CaffeineCache caffeineCache) {
+                stats.put(name, caffeineCache.getNativeCache().stats());
+            }
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.events.stats-log-interval-ms:300000}")
+    public void logStats() {
+        getStats().forEach((name, stats) -> log.info(
+                "Cache {}: hits={}, misses={}, hitRate={}, evictions={}",
+                name, stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()), stats.evictionCount()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.eventconnect.service;
+
+import org.springframework.http.MediaType;
+
+public enum EventExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    JSON(MediaType.APPLICATION_JSON_VALUE, "json");
+
+    private final String contentType;
+    private final String extension;
+
+    EventExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static EventExportFormat from(String value) {
+        for (EventExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new RuntimeException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,119 @@
+package com.eventconnect.service;
+
+import com.eventconnect.dto.EventResponse;
+import com.eventconnect.entity.Event;
+import com.eventconnect.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole catalog straight from a database cursor to the response, one event at a time,
+ * so memory use does not grow with the number of events. An export holds its transaction and pooled
+ * connection for as long as the client keeps reading, so only a few may run at once.
+ */
+@Service
+public class EventExportService {
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+    private final Semaphore exports;
+
+    public EventExportService(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                              @Value("${catalog.export.max-concurrent:2}") int maxConcurrent) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Let the generator's buffer decide when to write instead of flushing after every event
+        this.eventWriter = objectMapper.writerFor(EventResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exports = new Semaphore(maxConcurrent);
+    }
+
+    // Null when the limit is reached; otherwise the caller owns the returned permit until the export ends
+    public ExportPermit tryStartExport() {
+        return exports.tryAcquire() ? new ExportPermit() : null;
+    }
+
+    /**
+     * One slot of the export limit. The streaming body may never run (the client went away before the
+     * async dispatch, the executor rejected the task, the request timed out), so whichever of {@link #begin()}
+     * and {@link #abandon()} comes first decides who returns the slot, and it is returned exactly once.
+     */
+    public final class ExportPermit implements AutoCloseable {
+
+        private static final int IDLE = 0;
+        private static final int RUNNING = 1;
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+
+        private ExportPermit() {
+        }
+
+        // False if the request was already abandoned, in which case nothing should be exported
+        public boolean begin() {
+            return state.compareAndSet(IDLE, RUNNING);
+        }
+
+        // Returns the slot unless a running export still holds it
+        public void abandon() {
+            if (state.compareAndSet(IDLE, RELEASED)) {
+                exports.release();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (state.getAndSet(RELEASED) != RELEASED) {
+                exports.release();
+            }
+        }
+    }
+
+    @Timed(value = "events.export", histogram = true)
+    @Transactional(readOnly = true)
+    public long exportEvents(EventExportFormat format, OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Event> events = eventRepository.streamAllByOrderByDateAscIdAsc();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // The container owns the response stream; NDJSON rows are separated by newlines, not spaces
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (format == EventExportFormat.JSON) {
+                generator.writeStartArray();
+            }
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                eventWriter.writeValue(generator, EventResponse.fromEntity(event));
+                if (format == EventExportFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                // Nothing in the persistence context may outlive its row
+                entityManager.detach(event);
+                count++;
+            }
+            if (format == EventExportFormat.JSON) {
+                generator.writeEndArray();
+            }
+        }
+        return count;
+    }
+}
@@ -1,13 +1,27 @@
 package com.eventconnect.service;
 
+import com.eventconnect.config.CacheConfig;
+import com.eventconnect.dto.CursorPage;
+import com.eventconnect.dto.EventCursor;
 import com.eventconnect.dto.EventResponse;
+import com.eventconnect.dto.SearchCursor;
 import com.eventconnect.entity.Event;
 import com.eventconnect.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,41 +29,130 @@ import java.util.stream.Collectors;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final TicketInventory ticketInventory;
+    private final EventCatalogCache eventCatalogCache;
+    private final BookingLeaderboard bookingLeaderboard;
 
-    public List<EventResponse> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(EventResponse::fromEntity)
-                .collect(Collectors.toList());
+    @Value("${booking.inventory.mode:atomic}")
+    private InventoryMode inventoryMode;
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TOP_SIZE = 50;
+
+    @Timed(value = "events.queries", histogram = true)
+    @Cacheable(value = CacheConfig.ALL_EVENTS, key = "{#after, #limit}", sync = true)
+    // Cached reads are deliberately not read-only: what they load is shared by every user of this
+    // instance, so it comes from the primary rather than a replica that may not have the last booking yet
+    @Transactional
+    public CursorPage<EventResponse> getAllEvents(String after, int limit) {
+        Pageable page = pageOf(limit);
+        if (after == null) {
+            return toPage(eventRepository.findAllByOrderByDateAscIdAsc(page), limit);
+        }
+        EventCursor cursor = EventCursor.decode(after);
+        return toPage(eventRepository.findAllAfter(cursor.getDate(), cursor.getId(), page), limit);
     }
 
-    public List<EventResponse> getUpcomingEvents() {
-        return eventRepository.findByDateGreaterThanEqualOrderByDateAsc(LocalDate.now()).stream()
-                .map(EventResponse::fromEntity)
-                .collect(Collectors.toList());
+    @Timed(value = "events.queries", histogram = true)
+    @Cacheable(value = CacheConfig.UPCOMING_EVENTS, key = "{T(java.time.LocalDate).now(), #after, #limit}", sync = true)
+    @Transactional
+    public CursorPage<EventResponse> getUpcomingEvents(String after, int limit) {
+        Pageable page = pageOf(limit);
+        LocalDate today = LocalDate.now();
+        EventCursor cursor = after == null ? null : EventCursor.decode(after);
+        if (cursor == null || cursor.getDate().isBefore(today)) {
+            return toPage(eventRepository.findByDateGreaterThanEqualOrderByDateAscIdAsc(today, page), limit);
+        }
+        return toPage(eventRepository.findAllAfter(cursor.getDate(), cursor.getId(), page), limit);
     }
 
+    @Timed(value = "events.queries", histogram = true)
+    @Cacheable(value = CacheConfig.EVENT_BY_ID, key = "#id", sync = true)
+    @Transactional
     public EventResponse getEventById(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         return EventResponse.fromEntity(event);
     }
 
-    public List<EventResponse> getTop3MostBookedEvents() {
-        return eventRepository.findTop3MostBookedEvents().stream()
-                .map(EventResponse::fromEntity)
+    @Timed(value = "events.queries", histogram = true)
+    // Keyed by rankings version so a ranking read just before the leaderboard moved is never served after it
+    @Cacheable(value = CacheConfig.TOP_EVENTS, key = "{#limit, #windowHours, @catalogVersion.rankings()}", sync = true)
+    @Transactional
+    public List<EventResponse> getTopBookedEvents(int limit, Integer windowHours) {
+        int size = Math.min(Math.max(limit, 1), MAX_TOP_SIZE);
+        List<Long> eventIds = windowHours == null
+                ? bookingLeaderboard.getTopEventIds(size)
+                : bookingLeaderboard.getTopEventIds(size, windowHours);
+
+        Map<Long, Event> eventsById = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> events = eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-    }
 
-    public List<EventResponse> searchEvents(String query) {
-        return eventRepository.searchEvents(query).stream()
+        // Keep the section populated when there are fewer booked events than requested
+        if (events.size() < size) {
+            for (Event event : eventRepository.findAllByOrderByDateAscIdAsc(PageRequest.of(0, size))) {
+                if (events.size() == size) {
+                    break;
+                }
+                if (!eventsById.containsKey(event.getId())) {
+                    events.add(event);
+                }
+            }
+        }
+
+        return events.stream()
                 .map(EventResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
-    public List<EventResponse> getEventsByCategory(String category) {
-        return eventRepository.findByCategoryIgnoreCase(category).stream()
-                .map(EventResponse::fromEntity)
+    @Timed(value = "events.queries", histogram = true)
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> searchEvents(String query, String after, int limit) {
+        String tsQuery = toPrefixQuery(query);
+        if (tsQuery.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        int pageSize = pageSize(limit);
+        List<Object[]> ranks;
+        if (after == null) {
+            ranks = eventRepository.searchRanks(tsQuery, pageSize + 1);
+        } else {
+            SearchCursor cursor = SearchCursor.decode(after);
+            ranks = eventRepository.searchRanksAfter(tsQuery, cursor.getRank(), cursor.getId(), pageSize + 1);
+        }
+
+        // Ranked ids first, then the page's events by primary key
+        List<Object[]> page = ranks.subList(0, Math.min(ranks.size(), pageSize));
+        List<Long> ids = page.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, Event> events = eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<EventResponse> items = ids.stream()
+                .map(id -> EventResponse.fromEntity(events.get(id)))
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (ranks.size() > pageSize) {
+            Object[] last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(((Number) last[1]).floatValue(), ((Number) last[0]).longValue()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Timed(value = "events.queries", histogram = true)
+    @Cacheable(value = CacheConfig.EVENTS_BY_CATEGORY, key = "{#category.toLowerCase(), #after, #limit}", sync = true)
+    @Transactional
+    public CursorPage<EventResponse> getEventsByCategory(String category, String after, int limit) {
+        Pageable page = pageOf(limit);
+        if (after == null) {
+            return toPage(eventRepository.findByCategoryIgnoreCaseOrderByDateAscIdAsc(category, page), limit);
+        }
+        EventCursor cursor = EventCursor.decode(after);
+        return toPage(eventRepository.findByCategoryAfter(category, cursor.getDate(), cursor.getId(), page), limit);
     }
 
     public Event getEventEntityById(Long id) {
@@ -57,13 +160,80 @@ public class EventService {
                 .orElseThrow(() -> new RuntimeException("Event not found"));
     }
 
-    public void updateEventAvailability(Event event, int quantityBooked) {
-        event.setAvailableTickets(event.getAvailableTickets() - quantityBooked);
-        eventRepository.save(event);
+    public int getAvailableTickets(Event event) {
+        if (inventoryMode == InventoryMode.MEMORY) {
+            return ticketInventory.getAvailableTickets(event.getId());
+        }
+        // The loaded entity is stale once the count has been written by a statement
+        return eventRepository.findAvailableTicketsById(event.getId())
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+    }
+
+    public boolean updateEventAvailability(Event event, int quantityBooked) {
+        if (inventoryMode == InventoryMode.MEMORY) {
+            return ticketInventory.reserve(event.getId(), quantityBooked);
+        }
+        if (inventoryMode == InventoryMode.ATOMIC) {
+            if (eventRepository.reserveTickets(event.getId(), quantityBooked) != 1) {
+                return false;
+            }
+            eventCatalogCache.availabilityChanged(event.getId());
+            return true;
+        }
+
+        // Read and written back under a row lock held to commit, so concurrent buyers wait instead of
+        // overwriting each other
+        int available = eventRepository.lockAvailableTicketsById(event.getId());
+        if (available < quantityBooked) {
+            return false;
+        }
+        eventRepository.setAvailableTickets(event.getId(), available - quantityBooked);
+        eventCatalogCache.availabilityChanged(event.getId());
+        return true;
     }
 
     public void restoreEventAvailability(Event event, int quantityRestored) {
-        event.setAvailableTickets(event.getAvailableTickets() + quantityRestored);
-        eventRepository.save(event);
+        if (inventoryMode == InventoryMode.MEMORY) {
+            ticketInventory.release(event.getId(), quantityRestored);
+            return;
+        }
+        if (inventoryMode == InventoryMode.ATOMIC) {
+            eventRepository.releaseTickets(event.getId(), quantityRestored);
+            eventCatalogCache.availabilityChanged(event.getId());
+            return;
+        }
+
+        int available = eventRepository.lockAvailableTicketsById(event.getId());
+        eventRepository.setAvailableTickets(event.getId(), available + quantityRestored);
+        eventCatalogCache.availabilityChanged(event.getId());
+    }
+
+    // "arijit sin" -> "arijit:* & sin:*" so every word matches as a prefix
+    private static String toPrefixQuery(String query) {
+        return Arrays.stream(query.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    // Fetch one extra row to learn whether another page exists
+    private Pageable pageOf(int limit) {
+        return PageRequest.of(0, pageSize(limit) + 1);
+    }
+
+    private CursorPage<EventResponse> toPage(List<Event> events, int limit) {
+        int pageSize = pageSize(limit);
+        List<EventResponse> items = events.stream()
+                .limit(pageSize)
+                .map(EventResponse::fromEntity)
+                .collect(Collectors.toList());
+        String nextCursor = events.size() > pageSize
+                ? EventCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(items, nextCursor);
     }
 }
@@ -0,0 +1,119 @@
+package com.eventconnect.service;
+
+import com.eventconnect.entity.Booking;
+import com.eventconnect.entity.BookingStatus;
+import com.eventconnect.entity.Event;
+import com.eventconnect.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.DelayQueue;
+
+/**
+ * Expires HELD bookings whose TTL has passed and returns their tickets. Holds wait in an
+ * in-memory delay queue, so expiry never scans the bookings table; holds this instance does not
+ * know about (made on another instance, or before a restart) are picked up through the partial
+ * index on outstanding holds.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldExpiryScheduler {
+
+    private final BookingRepository bookingRepository;
+    private final EventService eventService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DelayQueue<BookingHold> holds = new DelayQueue<>();
+
+    @Value("${booking.hold.expiry-batch-size:500}")
+    private int batchSize;
+
+    public void schedule(Booking booking) {
+        BookingHold hold = new BookingHold(booking.getId(), booking.getHoldExpiresAt());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    holds.add(hold);
+                }
+            });
+        } else {
+            holds.add(hold);
+        }
+    }
+
+    public int getOutstandingHolds() {
+        return holds.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOutstanding() {
+        List<BookingHold> page = bookingRepository.findHoldsAfter(0L, PageRequest.of(0, batchSize));
+        while (!page.isEmpty()) {
+            holds.addAll(page);
+            page = bookingRepository.findHoldsAfter(page.get(page.size() - 1).getBookingId(),
+                    PageRequest.of(0, batchSize));
+        }
+        log.info("Tracking {} outstanding seat holds", holds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.expiry-interval-ms:1000}")
+    public void expireDue() {
+        List<BookingHold> due = new ArrayList<>(batchSize);
+        while (holds.drainTo(due, batchSize) > 0) {
+            try {
+                expire(due.stream().map(BookingHold::getBookingId).toList());
+            } catch (RuntimeException e) {
+                holds.addAll(due);
+                log.warn("Failed to expire seat holds, will retry: {}", e.getMessage());
+                return;
+            }
+            due.clear();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${booking.hold.sweep-interval-ms:300000}",
+               fixedDelayString = "${booking.hold.sweep-interval-ms:300000}")
+    public void sweepExpired() {
+        List<Long> expired;
+        do {
+            expired = bookingRepository.findExpiredHoldIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (!expired.isEmpty()) {
+                expire(expired);
+            }
+        } while (expired.size() == batchSize);
+    }
+
+    // Confirmed or cancelled holds are skipped by the status filter; the row locks serialize
+    // expiry with confirm and cancel
+    private void expire(List<Long> bookingIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Integer> released = new TreeMap<>();
+            Map<Long, Event> events = new HashMap<>();
+            for (Booking booking : bookingRepository.findHeldByIdInForUpdate(bookingIds)) {
+                booking.setStatus(BookingStatus.EXPIRED);
+                booking.setHoldExpiresAt(null);
+                released.merge(booking.getEvent().getId(), booking.getQuantity(), Integer::sum);
+                events.putIfAbsent(booking.getEvent().getId(), booking.getEvent());
+            }
+            // One inventory update per event rather than per hold
+            released.forEach((eventId, quantity) -> eventService.restoreEventAvailability(events.get(eventId), quantity));
+        });
+    }
+}
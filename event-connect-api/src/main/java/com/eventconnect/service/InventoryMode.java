@@ -0,0 +1,10 @@
+package com.eventconnect.service;
+
+public enum InventoryMode {
+    // Read the count under a row lock, check and write it back; buyers of one event queue on the lock
+    DATABASE,
+    // Single conditional UPDATE per reservation, the database decides success
+    ATOMIC,
+    // In-memory counters flushed in batches, see TicketInventory
+    MEMORY
+}
@@ -0,0 +1,48 @@
+package com.eventconnect.service;
+
+import com.eventconnect.dto.BookingResponse;
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A booking request waiting in an event's admission queue. The outcome is decided inside the
+ * batch transaction but only published to the caller once that transaction has committed.
+ */
+@Getter
+public class PendingBooking {
+
+    private final String ticket = UUID.randomUUID().toString();
+    private final Long userId;
+    private final int quantity;
+    private final CompletableFuture<BookingResponse> result = new CompletableFuture<>();
+
+    private BookingResponse booking;
+    private String rejection;
+
+    PendingBooking(Long userId, int quantity) {
+        this.userId = userId;
+        this.quantity = quantity;
+    }
+
+    void accept(BookingResponse booking) {
+        this.booking = booking;
+    }
+
+    void reject(String rejection) {
+        this.rejection = rejection;
+    }
+
+    void publish() {
+        if (booking != null) {
+            result.complete(booking);
+        } else {
+            fail(rejection);
+        }
+    }
+
+    void fail(String message) {
+        result.completeExceptionally(new RuntimeException(message));
+    }
+}
@@ -0,0 +1,8 @@
+package com.eventconnect.service;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
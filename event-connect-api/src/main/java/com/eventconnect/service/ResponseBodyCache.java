@@ -0,0 +1,95 @@
+package com.eventconnect.service;
+
+import com.eventconnect.dto.ApiResponse;
+import com.eventconnect.dto.EventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ready-encoded JSON (and gzip) bodies for the landing-page endpoints, keyed by endpoint and parameters.
+ * Each entry remembers the catalog tag and the availability of the events it was built from, and is
+ * rebuilt on the first request after either changes - a booking only rebuilds the bodies listing its
+ * event - so a hit costs no mapping, serialization or compression, only a byte copy. Entries also expire
+ * after {@code catalog.version.ttl}, the life of a catalog tag, so a body never outlives the catalog caches
+ * it was built from even when the change happened on another instance.
+ */
+@Service
+public class ResponseBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final EventAvailability eventAvailability;
+    private final Cache<String, Body> bodies;
+    private final boolean gzip;
+    private final int gzipMinBytes;
+
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             EventAvailability eventAvailability,
+                             @Value("${catalog.response-cache.max-size:1000}") long maxSize,
+                             @Value("${catalog.version.ttl:30s}") Duration ttl,
+                             @Value("${catalog.response-cache.gzip:true}") boolean gzip,
+                             @Value("${catalog.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.eventAvailability = eventAvailability;
+        this.bodies = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.gzip = gzip;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    // The response comes from the catalog caches as is; live availability is laid over it here
+    public Body get(String key, String etag, Supplier<ApiResponse<List<EventResponse>>> response) {
+        Body cached = bodies.getIfPresent(key);
+        if (cached != null && cached.etag().equals(etag)
+                && cached.availability() == eventAvailability.stamp(cached.eventIds())) {
+            return cached;
+        }
+        // Built outside the cache's lock since the supplier may query the database; concurrent rebuilds
+        // of one key are collapsed by the catalog caches underneath. A late put of an older body only
+        // costs a rebuild, the checks above never serve it once its tag or counts are out of date
+        ApiResponse<List<EventResponse>> catalog = response.get();
+        List<Long> eventIds = catalog.getData().stream().map(EventResponse::getId).toList();
+        // Stamped before the counts are read, so a change in between shows as out of date
+        long availability = eventAvailability.stamp(eventIds);
+        catalog.setData(eventAvailability.overlay(catalog.getData()));
+        Body built = encode(etag, eventIds, availability, catalog);
+        bodies.put(key, built);
+        return built;
+    }
+
+    private Body encode(String etag, List<Long> eventIds, long availability, Object response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Body(etag, eventIds, availability, json,
+                    gzip && json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize response: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record Body(String etag, List<Long> eventIds, long availability, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.eventconnect.service;
+
+public class SoldOutException extends RuntimeException {
+
+    public SoldOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,173 @@
+package com.eventconnect.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-event ticket counters for {@code booking.inventory.mode=memory}. Seats are reserved
+ * lock-free in memory and the deltas are written back to {@code events} in batches; a restarted
+ * process re-seeds its counters from the bookings table, so deltas lost in a crash cannot oversell.
+ * The counters are only authoritative within one JVM, so use this on a single instance.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketInventory {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventCatalogCache eventCatalogCache;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${booking.inventory.mode:atomic}")
+    private InventoryMode mode;
+
+    public boolean isEnabled() {
+        return mode == InventoryMode.MEMORY;
+    }
+
+    public boolean reserve(Long eventId, int quantity) {
+        Counter counter = counterFor(eventId);
+        int current;
+        do {
+            current = counter.available.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!counter.available.compareAndSet(current, current - quantity));
+        counter.pendingDelta.addAndGet(-quantity);
+
+        // Hand the seats back if the surrounding booking transaction does not commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        returnSeats(counter, quantity);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    public void release(Long eventId, int quantity) {
+        Counter counter = counterFor(eventId);
+
+        // Only return seats once the cancellation is durable, otherwise a rollback could oversell
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    returnSeats(counter, quantity);
+                }
+            });
+        } else {
+            returnSeats(counter, quantity);
+        }
+    }
+
+    public int getAvailableTickets(Long eventId) {
+        return counterFor(eventId).available.get();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.inventory.flush-interval-ms:200}")
+    public void flush() {
+        if (!isEnabled() || counters.isEmpty()) {
+            return;
+        }
+
+        List<Long> eventIds = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        counters.forEach((eventId, counter) -> {
+            int delta = counter.pendingDelta.getAndSet(0);
+            if (delta != 0) {
+                eventIds.add(eventId);
+                batch.add(new Object[]{delta, eventId});
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE events SET available_tickets = available_tickets + ? WHERE id = ?", batch);
+                eventIds.forEach(eventCatalogCache::availabilityChanged);
+            });
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them
+            for (int i = 0; i < batch.size(); i++) {
+                counters.get(eventIds.get(i)).pendingDelta.addAndGet((Integer) batch.get(i)[0]);
+            }
+            log.warn("Failed to flush ticket inventory, will retry: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Counter counterFor(Long eventId) {
+        Counter counter = counters.get(eventId);
+        if (counter != null) {
+            return counter;
+        }
+        // Loaded outside the map's lock; if two threads race, both read the same committed bookings
+        // and the first counter in wins
+        Counter loaded = load(eventId);
+        Counter existing = counters.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    // Seeded from the bookings, which commit with every reservation, rather than from available_tickets,
+    // which lags by the unflushed deltas and loses them in a crash. Any difference is queued as a delta
+    // so the next flush repairs the column
+    private Counter load(Long eventId) {
+        List<Counter> loaded = jdbcTemplate.query(
+                "SELECT e.total_tickets - COALESCE(SUM(b.quantity), 0), e.available_tickets FROM events e " +
+                "LEFT JOIN bookings b ON b.event_id = e.id AND b.status IN ('CONFIRMED', 'HELD') " +
+                "WHERE e.id = ? GROUP BY e.id",
+                (rs, row) -> {
+                    Counter counter = new Counter(rs.getInt(1));
+                    counter.pendingDelta.set(rs.getInt(1) - rs.getInt(2));
+                    return counter;
+                },
+                eventId);
+        if (loaded.isEmpty()) {
+            throw new RuntimeException("Event not found");
+        }
+        return loaded.get(0);
+    }
+
+    private static void returnSeats(Counter counter, int quantity) {
+        counter.available.addAndGet(quantity);
+        counter.pendingDelta.addAndGet(quantity);
+    }
+
+    private static final class Counter {
+        private final AtomicInteger available;
+        private final AtomicInteger pendingDelta = new AtomicInteger();
+
+        private Counter(int available) {
+            this.available = new AtomicInteger(available);
+        }
+    }
+}
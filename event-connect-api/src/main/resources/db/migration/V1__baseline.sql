@@ -0,0 +1,46 @@
+-- Schema as Hibernate generated it (ddl-auto=update) before migrations were introduced; this is what
+-- deployed databases have. They are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+-- Statements and column order follow Hibernate's own export, see BaselineSchemaTest
+
+CREATE TABLE bookings (
+    quantity INTEGER NOT NULL,
+    total_price NUMERIC(10, 2) NOT NULL,
+    booking_date TIMESTAMP(6),
+    event_id BIGINT NOT NULL,
+    id BIGSERIAL NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('CONFIRMED', 'CANCELLED', 'PENDING')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE events (
+    available_tickets INTEGER NOT NULL,
+    date DATE NOT NULL,
+    price NUMERIC(10, 2) NOT NULL,
+    time TIME(6) NOT NULL,
+    total_tickets INTEGER NOT NULL,
+    id BIGSERIAL NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    description TEXT,
+    image_url VARCHAR(255),
+    location VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    created_at TIMESTAMP(6),
+    id BIGSERIAL NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_bookings_user_id ON bookings (user_id);
+CREATE INDEX idx_bookings_event_id ON bookings (event_id);
+CREATE INDEX idx_events_date ON events (date);
+CREATE INDEX idx_users_email ON users (email);
+
+ALTER TABLE bookings ADD CONSTRAINT FK2ww82bk3npaiyu9oeehwtt2q3 FOREIGN KEY (event_id) REFERENCES events;
+ALTER TABLE bookings ADD CONSTRAINT FKeyog2oic85xg7hsu2je2lx3s6 FOREIGN KEY (user_id) REFERENCES users;
@@ -0,0 +1,38 @@
+-- Everything added on top of the V1 schema while Hibernate still managed it with ddl-auto=update.
+-- Databases created in that period already have some or all of it, so every step is idempotent
+
+-- Keyset pages over (date, id), overall and per category; (date, id) supersedes the date-only index
+CREATE INDEX IF NOT EXISTS idx_events_date_id ON events (date, id);
+CREATE INDEX IF NOT EXISTS idx_events_category_date_id ON events (category, date, id);
+DROP INDEX IF EXISTS idx_events_date;
+
+-- Full-text search over events. The expression must match EventRepository.SEARCH_DOCUMENT
+-- exactly for the planner to use this index.
+CREATE INDEX IF NOT EXISTS idx_events_search ON events USING GIN ((
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(category, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(location, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+));
+
+-- Shared booking rate-limit buckets (rate-limit.mode=distributed), state is serialized by Bucket4j
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    id BIGINT PRIMARY KEY,
+    state BYTEA
+);
+
+-- Bookings moved from IDENTITY to the pooled bookings_seq so inserts can be batched; start it after
+-- the rows inserted before that
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('bookings_seq', GREATEST((SELECT last_value FROM bookings_seq), (SELECT COALESCE(MAX(id), 0) FROM bookings)));
+
+-- Seat holds: expiry time plus the HELD/EXPIRED statuses. Existing rows already satisfy the
+-- narrower check, so skip revalidating them
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS hold_expires_at TIMESTAMP(6);
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS bookings_status_check;
+ALTER TABLE bookings ADD CONSTRAINT bookings_status_check
+    CHECK (status IN ('CONFIRMED', 'CANCELLED', 'PENDING', 'HELD', 'EXPIRED')) NOT VALID;
+
+-- Outstanding seat holds only, see HoldExpiryScheduler
+CREATE INDEX IF NOT EXISTS idx_bookings_held_id ON bookings (id) WHERE status = 'HELD';
+CREATE INDEX IF NOT EXISTS idx_bookings_held_expiry ON bookings (hold_expires_at) WHERE status = 'HELD';
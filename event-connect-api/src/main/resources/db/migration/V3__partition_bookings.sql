@@ -0,0 +1,43 @@
+-- Hash-partitions bookings by event_id into 16 tables so each one stays small enough to vacuum
+-- and index quickly. Lookups that carry event_id (Booking.eventId is the @PartitionKey, so entity
+-- updates do too) touch one partition; per-event aggregations run partition by partition.
+-- The partition key has to be part of the primary key. Existing rows are copied over, which
+-- holds an exclusive lock on bookings for the duration of the migration
+
+CREATE TABLE bookings_partitioned (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users,
+    event_id BIGINT NOT NULL REFERENCES events,
+    booking_date TIMESTAMP(6),
+    quantity INTEGER NOT NULL,
+    total_price NUMERIC(10, 2) NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('CONFIRMED', 'CANCELLED', 'PENDING', 'HELD', 'EXPIRED')),
+    hold_expires_at TIMESTAMP(6),
+    PRIMARY KEY (id, event_id)
+) PARTITION BY HASH (event_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE bookings_p%s PARTITION OF bookings_partitioned ' ||
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END
+$$;
+
+INSERT INTO bookings_partitioned (id, user_id, event_id, booking_date, quantity, total_price, status, hold_expires_at)
+SELECT id, user_id, event_id, booking_date, quantity, total_price, status, hold_expires_at FROM bookings;
+
+DROP TABLE bookings;
+ALTER TABLE bookings_partitioned RENAME TO bookings;
+ALTER INDEX bookings_partitioned_pkey RENAME TO bookings_pkey;
+
+-- Created after the copy; each is built per partition
+CREATE INDEX idx_bookings_user_id ON bookings (user_id);
+CREATE INDEX idx_bookings_event_id ON bookings (event_id);
+
+-- Outstanding seat holds only, see HoldExpiryScheduler
+CREATE INDEX idx_bookings_held_id ON bookings (id) WHERE status = 'HELD';
+CREATE INDEX idx_bookings_held_expiry ON bookings (hold_expires_at) WHERE status = 'HELD';
+
+ANALYZE bookings;
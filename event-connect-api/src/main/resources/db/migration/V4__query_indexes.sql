@@ -0,0 +1,18 @@
+-- Indexes matched to the repository queries. On bookings each one is built per partition, and
+-- the table is write-locked while that happens
+
+-- My bookings (BookingRepository.findResponsesByUserIdOrderByBookingDateDesc): rows come back in
+-- order, no sort. Also covers every other lookup by user, so the plain user_id index goes
+DROP INDEX IF EXISTS idx_bookings_user_id;
+CREATE INDEX idx_bookings_user_date ON bookings (user_id, booking_date DESC);
+
+-- BookingRepository.existsByUserIdAndEventIdAndStatus, answered from the index alone
+CREATE INDEX idx_bookings_user_event_status ON bookings (user_id, event_id, status);
+
+-- Category pages compare lower(category) and keyset on (date, id); the plain category index
+-- could not be used for the case-insensitive match
+DROP INDEX IF EXISTS idx_events_category_date_id;
+CREATE INDEX idx_events_category_date_id ON events (lower(category), date, id);
+
+-- Duplicate of the unique constraint's index
+DROP INDEX IF EXISTS idx_users_email;
@@ -0,0 +1,70 @@
+package com.eventconnect;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One embedded PostgreSQL server per test JVM; every test class gets its own database on it,
+ * migrated by the application like a real deployment.
+ */
+public final class TestDatabase {
+
+    private static final Map<String, String> urls = new HashMap<>();
+    private static EmbeddedPostgres postgres;
+
+    private TestDatabase() {
+    }
+
+    // Returns the same URL for repeated calls with one name, so it can back a lazily evaluated property
+    public static synchronized String url(String name) {
+        String url = urls.get(name);
+        if (url == null) {
+            url = create(name);
+            urls.put(name, url);
+        }
+        return url;
+    }
+
+    // Properties pointing an application context at the named database
+    public static Map<String, Object> properties(String name) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", url(name));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        return properties;
+    }
+
+    private static String create(String name) {
+        try {
+            if (postgres == null) {
+                postgres = EmbeddedPostgres.builder().setServerConfig("max_connections", "200").start();
+                Runtime.getRuntime().addShutdownHook(new Thread(TestDatabase::stop));
+            }
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP DATABASE IF EXISTS " + name);
+                statement.execute("CREATE DATABASE " + name);
+            }
+            return postgres.getJdbcUrl("postgres", name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create test database " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void stop() {
+        try {
+            postgres.close();
+        } catch (IOException ignored) {
+            // The JVM is exiting anyway
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.eventconnect.config;
+
+import com.eventconnect.EventConnectApplication;
+import com.eventconnect.TestDatabase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application instances sharing one database, as two API replicas would in production.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class DistributedRateLimitTest {
+
+    private static final int CAPACITY = 5;
+    private static final int POOL_SIZE = 2;
+
+    private static final HttpClient http = HttpClient.newHttpClient();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance();
+        second = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    void limitIsSharedAcrossInstances() {
+        RateLimitConfig firstLimiter = first.getBean(RateLimitConfig.class);
+        RateLimitConfig secondLimiter = second.getBean(RateLimitConfig.class);
+
+        int allowed = 0;
+        for (int i = 0; i < 4 * CAPACITY; i++) {
+            RateLimitConfig limiter = i % 2 == 0 ? firstLimiter : secondLimiter;
+            if (limiter.tryConsume(1_000_000L)) {
+                allowed++;
+            }
+        }
+
+        assertEquals(CAPACITY, allowed);
+    }
+
+    // The limiter takes a pooled connection of its own; taken inside the booking transaction, more concurrent
+    // bookings than pool connections starved it until the connection timeout and it fell back to local buckets
+    @Test
+    void concurrentBookingsDoNotStarveTheLimiter(CapturedOutput output) throws Exception {
+        String baseUrl = baseUrl(first);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 4 * POOL_SIZE; i++) {
+            tokens.add(signup(baseUrl, "limit-" + i + "@example.com"));
+        }
+        long eventId = firstEventId(baseUrl);
+
+        List<Integer> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(tokens.size())) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (String token : tokens) {
+                results.add(executor.submit(() -> book(baseUrl, token, eventId)));
+            }
+            for (Future<Integer> result : results) {
+                statuses.add(result.get());
+            }
+        }
+
+        statuses.forEach(status -> assertEquals(200, status));
+        assertFalse(output.getAll().contains("falling back to local buckets"));
+    }
+
+    // An outage is logged when it starts rather than on every booking, and shows on the gauge until the store is back
+    @Test
+    void storeOutageIsReportedOnceAndRecovers(CapturedOutput output) {
+        RateLimitConfig limiter = first.getBean(RateLimitConfig.class);
+        Gauge fallback = first.getBean(MeterRegistry.class).get("booking.rate.limit.fallback").gauge();
+        JdbcTemplate jdbcTemplate = first.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.execute("ALTER TABLE rate_limit_buckets RENAME TO rate_limit_buckets_offline");
+        try {
+            for (long userId = 2_000_000L; userId < 2_000_010L; userId++) {
+                assertTrue(limiter.tryConsume(userId));
+            }
+            assertEquals(1.0, fallback.value());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE rate_limit_buckets_offline RENAME TO rate_limit_buckets");
+        }
+
+        assertTrue(limiter.tryConsume(2_000_100L));
+        assertEquals(0.0, fallback.value());
+        assertEquals(1, output.getAll().split("falling back to local buckets", -1).length - 1);
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        Map<String, Object> properties = TestDatabase.properties("rate_limit");
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("rate-limit.mode", "distributed");
+        properties.put("rate-limit.capacity", CAPACITY);
+        // Sync every token so the two instances cannot overshoot between them
+        properties.put("rate-limit.distributed.max-unsynced-tokens", 0);
+        properties.put("spring.datasource.hikari.maximum-pool-size", POOL_SIZE);
+        properties.put("spring.datasource.hikari.connection-timeout", 2000);
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(EventConnectApplication.class).run(args);
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static String signup(String baseUrl, String email) throws Exception {
+        JsonNode response = post(baseUrl + "/api/auth/signup",
+                "{\"name\":\"Test\",\"email\":\"" + email + "\",\"password\":\"secret1\"}");
+        return response.path("data").path("token").asText();
+    }
+
+    private static long firstEventId(String baseUrl) throws Exception {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/events?limit=1")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("data").get(0).path("id").asLong();
+    }
+
+    private static int book(String baseUrl, String token, long eventId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/bookings"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"eventId\":" + eventId + ",\"quantity\":1}"))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private static JsonNode post(String url, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return objectMapper.readTree(http.send(request, HttpResponse.BodyHandlers.ofString()).body());
+    }
+}
@@ -0,0 +1,143 @@
+package com.eventconnect.controller;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.config.CacheConfig;
+import com.eventconnect.dto.BookingRequest;
+import com.eventconnect.entity.User;
+import com.eventconnect.repository.UserRepository;
+import com.eventconnect.service.BookingService;
+import com.eventconnect.service.EventCatalogCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Bookings change an event's availability, not the catalog: cached pages and their tags survive them,
+ * and the counts served on top are live.
+ */
+// A long tag slot so the tags cannot roll over to the next slot mid-test
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.main.banner-mode=off", "management.server.port=0", "catalog.version.ttl=10m"})
+class EventAvailabilityTest {
+
+    private static final int TICKETS = 100;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EventCatalogCache eventCatalogCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("availability").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Test
+    void bookingKeepsCachedPagesAndTagsButServesTheNewCount() throws Exception {
+        long eventId = newEvent();
+        String category = "/api/events/category/Availability";
+        String upcoming = "/api/events/upcoming?limit=200";
+        String detail = "/api/events/" + eventId;
+
+        HttpResponse<String> categoryBefore = get(category, null);
+        HttpResponse<String> upcomingBefore = get(upcoming, null);
+        HttpResponse<String> detailBefore = get(detail, null);
+        HttpResponse<String> topBefore = get("/api/events/top", null);
+        assertEquals(TICKETS, available(categoryBefore, eventId));
+        assertEquals(TICKETS, available(upcomingBefore, eventId));
+        long categoryMisses = misses(CacheConfig.EVENTS_BY_CATEGORY);
+        long upcomingMisses = misses(CacheConfig.UPCOMING_EVENTS);
+
+        book(eventId, 3);
+
+        HttpResponse<String> categoryAfter = get(category, null);
+        HttpResponse<String> upcomingAfter = get(upcoming, null);
+        assertEquals(TICKETS - 3, available(categoryAfter, eventId));
+        assertEquals(TICKETS - 3, available(upcomingAfter, eventId));
+        assertEquals(TICKETS - 3, objectMapper.readTree(get(detail, null).body()).path("data")
+                .path("availableTickets").asInt());
+        // Served from the same cached pages, under the same tags
+        assertEquals(categoryMisses, misses(CacheConfig.EVENTS_BY_CATEGORY));
+        assertEquals(upcomingMisses, misses(CacheConfig.UPCOMING_EVENTS));
+        assertEquals(etag(categoryBefore), etag(categoryAfter));
+        assertEquals(etag(upcomingBefore), etag(upcomingAfter));
+        assertEquals(304, get(detail, etag(detailBefore)).statusCode());
+        // The booking moved the leaderboard
+        assertNotEquals(etag(topBefore), etag(get("/api/events/top", null)));
+    }
+
+    private void book(long eventId, int quantity) {
+        User user = userRepository.save(User.builder()
+                .email("availability-" + System.nanoTime() + "@example.com")
+                .name("Buyer")
+                .passwordHash("x")
+                .build());
+        BookingRequest request = new BookingRequest();
+        request.setEventId(eventId);
+        request.setQuantity(quantity);
+        bookingService.createBooking(user.getId(), request);
+    }
+
+    private int available(HttpResponse<String> response, long eventId) throws Exception {
+        for (JsonNode event : objectMapper.readTree(response.body()).path("data")) {
+            if (event.path("id").asLong() == eventId) {
+                return event.path("availableTickets").asInt();
+            }
+        }
+        throw new AssertionError("Event " + eventId + " not in " + response.uri());
+    }
+
+    private long misses(String cache) {
+        return eventCatalogCache.getStats().get(cache).missCount();
+    }
+
+    private static String etag(HttpResponse<String> response) {
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Dated today so it leads the upcoming page
+    private long newEvent() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, category)
+                VALUES ('Availability test', 'Live counts', CURRENT_DATE, TIME '23:59', 'Arena', ?, ?, 10.00,
+                        'Availability')
+                RETURNING id
+                """, Long.class, TICKETS, TICKETS);
+    }
+}
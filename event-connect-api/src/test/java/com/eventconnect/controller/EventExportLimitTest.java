@@ -0,0 +1,114 @@
+package com.eventconnect.controller;
+
+import com.eventconnect.TestDatabase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Exports whose streaming body never runs must still hand back their slot of the concurrency limit.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.main.banner-mode=off", "catalog.export.max-concurrent=2"})
+class EventExportLimitTest {
+
+    // Stands in for a saturated executor: while set, async tasks are refused before they start
+    private static final AtomicBoolean rejectTasks = new AtomicBoolean();
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("export_limit").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @AfterEach
+    void acceptTasks() {
+        rejectTasks.set(false);
+    }
+
+    @Test
+    void abortedExportsReleaseTheirSlot() throws Exception {
+        String token = signup("exporter@example.com");
+
+        rejectTasks.set(true);
+        for (int i = 0; i < 2; i++) {
+            assertNotEquals(200, export(token).statusCode());
+        }
+        rejectTasks.set(false);
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse<String> response = export(token);
+            assertEquals(200, response.statusCode());
+            assertEquals('\n', response.body().charAt(response.body().length() - 1));
+        }
+    }
+
+    private HttpResponse<String> export(String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/export"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String signup(String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"Exporter\",\"email\":\"" + email + "\",\"password\":\"secret1\"}"))
+                .build();
+        String body = http.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).path("data").path("token").asText();
+    }
+
+    @TestConfiguration
+    static class RejectingExecutorConfig {
+
+        // Spring MVC runs streaming bodies on the application task executor
+        @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+        AsyncTaskExecutor applicationTaskExecutor() {
+            return new SimpleAsyncTaskExecutor("export-") {
+                @Override
+                public <T> Future<T> submit(Callable<T> task) {
+                    if (rejectTasks.get()) {
+                        throw new TaskRejectedException("Rejected for test");
+                    }
+                    return super.submit(task);
+                }
+
+                @Override
+                public Future<?> submit(Runnable task) {
+                    if (rejectTasks.get()) {
+                        throw new TaskRejectedException("Rejected for test");
+                    }
+                    return super.submit(task);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.eventconnect.repository;
+
+import com.eventconnect.TestDatabase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BaselineSchemaTest {
+
+    // Everything later migrations and the entities depend on: columns in order, constraints and indexes by name
+    private static final String SCHEMA = """
+            SELECT 'column ' || table_name || '.' || column_name || ' #' || ordinal_position || ' ' || data_type ||
+                   coalesce('(' || character_maximum_length || ')', '') ||
+                   coalesce('(' || numeric_precision || ',' || numeric_scale || ')', '') ||
+                   ' nullable=' || is_nullable || ' default=' || coalesce(column_default, '-')
+            FROM information_schema.columns WHERE table_schema = 'public' AND table_name <> 'flyway_schema_history'
+            UNION ALL
+            SELECT 'constraint ' || conrelid::regclass || ' ' || conname || ' ' || pg_get_constraintdef(oid)
+            FROM pg_constraint WHERE connamespace = 'public'::regnamespace
+                AND conrelid::regclass::text <> 'flyway_schema_history'
+            UNION ALL
+            SELECT 'index ' || indexdef
+            FROM pg_indexes WHERE schemaname = 'public' AND tablename <> 'flyway_schema_history'
+            UNION ALL
+            SELECT 'sequence ' || sequence_name FROM information_schema.sequences WHERE sequence_schema = 'public'
+            ORDER BY 1
+            """;
+
+    // Deployed databases are baselined at V1 without running it, so V1 has to build exactly what Hibernate did
+    @Test
+    void baselineMigrationMatchesHibernateGeneratedSchema() throws Exception {
+        String migrated = TestDatabase.url("baseline_flyway");
+        Flyway.configure().dataSource(migrated, "postgres", "").target("1").load().migrate();
+
+        String generated = TestDatabase.url("baseline_hibernate");
+        try (Connection connection = DriverManager.getConnection(generated, "postgres", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(resource("/db/hibernate-baseline.sql"));
+        }
+
+        assertEquals(schema(generated), schema(migrated));
+    }
+
+    private static List<String> schema(String url) throws SQLException {
+        List<String> schema = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(url, "postgres", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(SCHEMA)) {
+            while (rows.next()) {
+                schema.add(rows.getString(1));
+            }
+        }
+        return schema;
+    }
+
+    private static String resource(String path) throws IOException {
+        try (InputStream in = BaselineSchemaTest.class.getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventconnect.repository;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.entity.Booking;
+import com.eventconnect.entity.Event;
+import com.eventconnect.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingRepositoryTest {
+
+    private static final int EVENTS = 100;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("repository").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    // Each booking carries its event's columns; loading them must not cost a query per booking or per event
+    @Test
+    void userBookingsLoadInOneStatementWhateverTheirNumber() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(entityManager.persist(newEvent(i)));
+        }
+        Long oneBooking = newUserWithBookings(events, 1);
+        Long manyBookings = newUserWithBookings(events, 500);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, statementsToLoad(oneBooking, 1));
+        assertEquals(1, statementsToLoad(manyBookings, 500));
+    }
+
+    private long statementsToLoad(Long userId, int expectedBookings) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookingResponse> bookings = bookingRepository.findResponsesByUserIdOrderByBookingDateDesc(userId);
+        assertEquals(expectedBookings, bookings.size());
+        bookings.forEach(booking -> assertNotNull(booking.getEventTitle()));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long newUserWithBookings(List<Event> events, int count) {
+        User user = entityManager.persist(User.builder()
+                .email("user-" + count + "@example.com")
+                .name("User " + count)
+                .passwordHash("x")
+                .build());
+        for (int i = 0; i < count; i++) {
+            Event event = events.get(i % events.size());
+            entityManager.persist(Booking.builder()
+                    .user(user)
+                    .event(event)
+                    .quantity(1)
+                    .totalPrice(event.getPrice())
+                    .bookingDate(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        return user.getId();
+    }
+
+    private static Event newEvent(int i) {
+        return Event.builder()
+                .title("Event " + i)
+                .description("Event number " + i)
+                .date(LocalDate.of(2030, 1, 1).plusDays(i))
+                .time(LocalTime.of(19, 30))
+                .location("Venue " + i)
+                .totalTickets(1000)
+                .availableTickets(1000)
+                .price(new BigDecimal("25.00"))
+                .category("Music")
+                .build();
+    }
+}
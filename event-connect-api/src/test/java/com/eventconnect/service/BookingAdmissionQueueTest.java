@@ -0,0 +1,134 @@
+package com.eventconnect.service;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.dto.BookingRequest;
+import com.eventconnect.dto.BookingTicketResponse;
+import com.eventconnect.entity.User;
+import com.eventconnect.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"spring.main.banner-mode=off", "management.server.port=0",
+        "booking.admission.mode=queued", "booking.admission.max-batch-size=20", "rate-limit.capacity=100000"})
+class BookingAdmissionQueueTest {
+
+    private static final int EVENTS = 20;
+    private static final int TICKETS = 30;
+    private static final int USERS = 40;
+
+    @Autowired
+    private BookingAdmissionQueue admissionQueue;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("admission").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    // Every event that ever had a booking queued would otherwise keep its lane for the life of the process
+    @Test
+    void dropsLanesOnceTheirQueuesDrain() throws Exception {
+        List<Long> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(newEvent());
+        }
+        List<Long> users = newUsers();
+
+        // Twice as many requests as tickets, spread over the events and submitted concurrently
+        List<Future<BookingTicketResponse>> submitted = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(50)) {
+            for (int i = 0; i < 2 * EVENTS * TICKETS; i++) {
+                Long userId = users.get(i % USERS);
+                Long eventId = events.get(i % EVENTS);
+                submitted.add(executor.submit(() -> admissionQueue.submit(userId, request(eventId), true)));
+            }
+        }
+        for (int i = 0; i < submitted.size(); i++) {
+            awaitDecided(submitted.get(i).get(), users.get(i % USERS));
+        }
+
+        awaitNoLanes();
+        for (Long eventId : events) {
+            assertEquals(TICKETS, bookedTickets(eventId));
+        }
+
+        // A later request starts a fresh lane and is still admitted
+        Long eventId = newEvent();
+        BookingTicketResponse late = admissionQueue.submit(users.get(0), request(eventId), false);
+        assertEquals(BookingTicketResponse.Status.CONFIRMED, awaitDecided(late, users.get(0)).getStatus());
+        awaitNoLanes();
+        assertEquals(1, bookedTickets(eventId));
+    }
+
+    private BookingTicketResponse awaitDecided(BookingTicketResponse ticket, Long userId) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        BookingTicketResponse status = admissionQueue.getTicket(ticket.getTicket(), userId);
+        while (status.getStatus() == BookingTicketResponse.Status.PENDING) {
+            assertTrue(System.nanoTime() < deadline, "booking request still pending");
+            Thread.sleep(10);
+            status = admissionQueue.getTicket(ticket.getTicket(), userId);
+        }
+        return status;
+    }
+
+    // The drain that empties a queue drops its lane just after publishing the batch's results
+    private void awaitNoLanes() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (admissionQueue.getActiveLaneCount() > 0) {
+            assertTrue(System.nanoTime() < deadline, admissionQueue.getActiveLaneCount() + " lanes left");
+            Thread.sleep(10);
+        }
+    }
+
+    private static BookingRequest request(Long eventId) {
+        BookingRequest request = new BookingRequest();
+        request.setEventId(eventId);
+        request.setQuantity(1);
+        return request;
+    }
+
+    private long newEvent() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, category)
+                VALUES ('Admission test', 'Queued on-sale', DATE '2030-06-01', TIME '20:00', 'Arena', ?, ?, 10.00, 'Music')
+                RETURNING id
+                """, Long.class, TICKETS, TICKETS);
+    }
+
+    private List<Long> newUsers() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .email("queued-" + System.nanoTime() + "-" + i + "@example.com")
+                    .name("Buyer " + i)
+                    .passwordHash("x")
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private int bookedTickets(long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM bookings WHERE event_id = ? AND status = 'CONFIRMED'",
+                Integer.class, eventId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.eventconnect.service;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.dto.BookingRequest;
+import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.entity.User;
+import com.eventconnect.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Bookings and cancellations committed while the leaderboard is being rebuilt are counted exactly once.
+ */
+@SpringBootTest(properties = {"spring.main.banner-mode=off", "management.server.port=0"})
+class BookingLeaderboardTest {
+
+    private static final int BOOKERS = 8;
+    private static final int BOOKINGS_PER_BOOKER = 150;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingLeaderboard bookingLeaderboard;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("leaderboard").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Test
+    void countsChangesCommittedDuringRebuildOnce() throws Exception {
+        long eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, category)
+                VALUES ('Leaderboard', 'Rebuild race', DATE '2030-06-01', TIME '20:00', 'Arena', 100000, 100000,
+                        10.00, 'Music')
+                RETURNING id
+                """, Long.class);
+        bookingLeaderboard.rebuild();
+
+        AtomicBoolean booking = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newFixedThreadPool(BOOKERS + 1)) {
+            List<Future<?>> bookers = new ArrayList<>();
+            for (int i = 0; i < BOOKERS; i++) {
+                Long userId = newUser(i);
+                bookers.add(executor.submit(() -> book(eventId, userId)));
+            }
+            Future<?> rebuilds = executor.submit(() -> {
+                while (booking.get()) {
+                    bookingLeaderboard.rebuild();
+                }
+            });
+            for (Future<?> booker : bookers) {
+                booker.get();
+            }
+            booking.set(false);
+            rebuilds.get();
+        }
+
+        long confirmed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE event_id = ? AND status = 'CONFIRMED'", Long.class, eventId);
+        assertEquals(confirmed, bookingLeaderboard.getConfirmedCount(eventId));
+    }
+
+    // Cancels every third booking so the replay sees both directions
+    private void book(long eventId, Long userId) {
+        BookingRequest request = new BookingRequest();
+        request.setEventId(eventId);
+        request.setQuantity(1);
+        for (int i = 0; i < BOOKINGS_PER_BOOKER; i++) {
+            BookingResponse booked = bookingService.createBooking(userId, request);
+            if (i % 3 == 0) {
+                bookingService.cancelBooking(booked.getId(), userId);
+            }
+        }
+    }
+
+    private Long newUser(int index) {
+        return userRepository.save(User.builder()
+                .email("leaderboard-" + System.nanoTime() + "-" + index + "@example.com")
+                .name("Booker " + index)
+                .passwordHash("x")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,88 @@
+package com.eventconnect.service;
+
+import com.eventconnect.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exports a million events from a JVM whose heap could not hold them; run by the small-heap surefire
+ * execution (see pom.xml), so materializing the catalog anywhere fails with OutOfMemoryError.
+ */
+@SpringBootTest(properties = "spring.main.banner-mode=off")
+class EventExportMemoryTest {
+
+    private static final int EVENTS = 1_000_000;
+
+    @Autowired
+    private EventExportService eventExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("export").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @BeforeEach
+    void fillCatalog() {
+        jdbcTemplate.update("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, image_url, category)
+                SELECT 'Event ' || n, 'Generated event number ' || n, DATE '2030-01-01' + (n % 3650), TIME '19:30',
+                       'Venue ' || (n % 500), 1000, 1000, 49.99, NULL, 'Music'
+                FROM generate_series(1, CAST(? AS INTEGER)) AS n
+                """, EVENTS - count());
+    }
+
+    @Test
+    void exportsMillionRowsWithoutHoldingThem() throws Exception {
+        CountingOutputStream ndjson = new CountingOutputStream();
+        long exported = eventExportService.exportEvents(EventExportFormat.NDJSON, ndjson);
+        assertEquals(EVENTS, exported);
+        assertEquals(EVENTS, ndjson.lines);
+
+        CountingOutputStream json = new CountingOutputStream();
+        assertEquals(EVENTS, eventExportService.exportEvents(EventExportFormat.JSON, json));
+        assertEquals('[', json.first);
+        assertEquals(']', json.last);
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events", Long.class);
+    }
+
+    // Keeps only what the assertions need, so the output itself takes no memory
+    private static final class CountingOutputStream extends OutputStream {
+        private long lines;
+        private int first = -1;
+        private int last = -1;
+
+        @Override
+        public void write(int b) {
+            if (first < 0) {
+                first = b;
+            }
+            last = b;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventconnect.service;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.dto.CursorPage;
+import com.eventconnect.dto.EventResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Search pages on (rank, id): following nextCursor returns every match once, in rank order, even with
+ * long runs of equal ranks and with events added between pages.
+ */
+@SpringBootTest(properties = {"spring.main.banner-mode=off", "management.server.port=0"})
+class EventSearchTest {
+
+    private static final int PAGE_SIZE = 25;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("search").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Test
+    void followsCursorThroughEveryMatchOnce() {
+        List<Long> strong = newEvents("Zephyr Zephyr Gala", 30);
+        List<Long> weak = newEvents("Zephyr Gala", 120);
+        newEvents("Unrelated Gala", 40);
+
+        List<Long> seen = new ArrayList<>();
+        CursorPage<EventResponse> page = eventService.searchEvents("zephyr", null, PAGE_SIZE);
+        page.getItems().forEach(event -> seen.add(event.getId()));
+        // Ranks above the cursor belong to pages already served
+        newEvents("Zephyr Zephyr Zephyr Gala", 5);
+        while (page.getNextCursor() != null) {
+            page = eventService.searchEvents("zephyr", page.getNextCursor(), PAGE_SIZE);
+            page.getItems().forEach(event -> seen.add(event.getId()));
+        }
+
+        List<Long> expected = new ArrayList<>(strong);
+        expected.addAll(weak);
+        assertEquals(expected, seen);
+        assertEquals(seen.size(), new HashSet<>(seen).size());
+        assertNull(page.getNextCursor());
+    }
+
+    // Inserted in id order, so events of equal rank are expected in this order
+    private List<Long> newEvents(String title, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(jdbcTemplate.queryForObject("""
+                    INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                        price, category)
+                    VALUES (?, 'Search test', DATE '2030-06-01', TIME '20:00', 'Arena', 100, 100, 10.00, 'Music')
+                    RETURNING id
+                    """, Long.class, title));
+        }
+        return ids;
+    }
+}
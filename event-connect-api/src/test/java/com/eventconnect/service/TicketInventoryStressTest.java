@@ -0,0 +1,204 @@
+package com.eventconnect.service;
+
+import com.eventconnect.TestDatabase;
+import com.eventconnect.dto.BookingRequest;
+import com.eventconnect.dto.BookingResponse;
+import com.eventconnect.entity.User;
+import com.eventconnect.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 200 concurrent bookers and concurrent cancellations against one event, per inventory mode: every ticket
+ * is sold exactly once. Throughput is compared by the flash-sale load test, not here.
+ */
+// 200 threads share a 10-connection pool; on the row-locked path they may wait longer than the default timeout
+@SpringBootTest(properties = {"spring.main.banner-mode=off", "spring.datasource.hikari.connection-timeout=60000"})
+class TicketInventoryStressTest {
+
+    private static final int TICKETS = 300;
+    private static final int THREADS = 200;
+    private static final int USERS = 50;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TicketInventory ticketInventory;
+
+    @Autowired
+    private EventCatalogCache eventCatalogCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.properties("inventory").forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @AfterEach
+    void restoreMode() {
+        useMode(InventoryMode.ATOMIC);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void sellsEveryTicketExactlyOnce(InventoryMode mode) throws Exception {
+        useMode(mode);
+        long eventId = newEvent(TICKETS);
+        List<Long> users = newUsers();
+
+        // Twice as many buyers as tickets
+        List<BookingResponse> booked = bookConcurrently(eventId, users, 2 * TICKETS);
+        assertEquals(TICKETS, booked.size());
+        flushIfMemory(mode);
+        assertEquals(TICKETS, bookedTickets(eventId));
+        assertEquals(0, storedAvailability(eventId));
+
+        // Cancel a third while new buyers compete for the returned seats, then sell out again
+        List<Callable<Object>> work = new ArrayList<>();
+        for (BookingResponse booking : booked.subList(0, TICKETS / 3)) {
+            Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM bookings WHERE id = ?", Long.class, booking.getId());
+            work.add(() -> bookingService.cancelBooking(booking.getId(), userId));
+        }
+        AtomicInteger next = new AtomicInteger();
+        for (int i = 0; i < TICKETS / 3; i++) {
+            work.add(() -> tryBook(eventId, users.get(next.getAndIncrement() % users.size())));
+        }
+        runConcurrently(work);
+        while (tryBook(eventId, users.get(0)) != null) {
+            // Top up whatever the concurrent buyers left
+        }
+
+        flushIfMemory(mode);
+        assertEquals(TICKETS, bookedTickets(eventId));
+        assertEquals(0, storedAvailability(eventId));
+    }
+
+    // A crash loses the deltas not yet flushed to events.available_tickets; the next process must not trust it
+    @Test
+    void reseedsFromBookingsAfterLostFlush() throws Exception {
+        useMode(InventoryMode.MEMORY);
+        long eventId = newEvent(TICKETS);
+        bookConcurrently(eventId, newUsers(), TICKETS / 2);
+        ticketInventory.flush();
+        jdbcTemplate.update("UPDATE events SET available_tickets = total_tickets WHERE id = ?", eventId);
+
+        TicketInventory restarted = new TicketInventory(jdbcTemplate, transactionTemplate, eventCatalogCache);
+        ReflectionTestUtils.setField(restarted, "mode", InventoryMode.MEMORY);
+
+        assertEquals(TICKETS / 2, restarted.getAvailableTickets(eventId));
+        restarted.flush();
+        assertEquals(TICKETS / 2, storedAvailability(eventId));
+    }
+
+    private List<BookingResponse> bookConcurrently(long eventId, List<Long> users, int attempts) throws Exception {
+        List<Callable<BookingResponse>> work = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            Long userId = users.get(i % users.size());
+            work.add(() -> tryBook(eventId, userId));
+        }
+        return runConcurrently(work).stream().filter(result -> result != null).toList();
+    }
+
+    private BookingResponse tryBook(long eventId, Long userId) {
+        BookingRequest request = new BookingRequest();
+        request.setEventId(eventId);
+        request.setQuantity(1);
+        try {
+            return bookingService.createBooking(userId, request);
+        } catch (SoldOutException e) {
+            return null;
+        }
+    }
+
+    private static <T> List<T> runConcurrently(List<? extends Callable<T>> work) throws Exception {
+        List<T> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<T>> futures = new ArrayList<>();
+            work.forEach(task -> futures.add(executor.submit(task)));
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        }
+        return results;
+    }
+
+    private void useMode(InventoryMode mode) {
+        ReflectionTestUtils.setField(eventServiceTarget(), "inventoryMode", mode);
+        ReflectionTestUtils.setField(ticketInventory, "mode", mode);
+    }
+
+    // The mode is read by the service itself, behind its caching and transaction proxy
+    private EventService eventServiceTarget() {
+        EventService target = AopTestUtils.getTargetObject(eventService);
+        return target;
+    }
+
+    private void flushIfMemory(InventoryMode mode) {
+        if (mode == InventoryMode.MEMORY) {
+            ticketInventory.flush();
+        }
+    }
+
+    private long newEvent(int tickets) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, description, date, time, location, total_tickets, available_tickets,
+                                    price, category)
+                VALUES ('Stress test', 'On-sale spike', DATE '2030-06-01', TIME '20:00', 'Arena', ?, ?, 10.00, 'Music')
+                RETURNING id
+                """, Long.class, tickets, tickets);
+    }
+
+    private List<Long> newUsers() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .email("buyer-" + System.nanoTime() + "-" + i + "@example.com")
+                    .name("Buyer " + i)
+                    .passwordHash("x")
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private int bookedTickets(long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM bookings WHERE event_id = ? AND status = 'CONFIRMED'",
+                Integer.class, eventId);
+    }
+
+    private int storedAvailability(long eventId) {
+        return jdbcTemplate.queryForObject("SELECT available_tickets FROM events WHERE id = ?", Integer.class, eventId);
+    }
+}
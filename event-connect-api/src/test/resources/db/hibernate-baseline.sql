@@ -0,0 +1,59 @@
+-- Hibernate 6.3.1 DDL for the entities of the first release (before migrations), exported with
+-- jakarta.persistence.schema-generation.scripts.action=create. BaselineSchemaTest checks V1 against it
+
+    create table bookings (
+        quantity integer not null,
+        total_price numeric(10,2) not null,
+        booking_date timestamp(6),
+        event_id bigint not null,
+        id bigserial not null,
+        user_id bigint not null,
+        status varchar(255) not null check (status in ('CONFIRMED','CANCELLED','PENDING')),
+        primary key (id)
+    );
+
+    create table events (
+        available_tickets integer not null,
+        date date not null,
+        price numeric(10,2) not null,
+        time time(6) not null,
+        total_tickets integer not null,
+        id bigserial not null,
+        category varchar(255) not null,
+        description TEXT,
+        image_url varchar(255),
+        location varchar(255),
+        title varchar(255) not null,
+        primary key (id)
+    );
+
+    create table users (
+        created_at timestamp(6),
+        id bigserial not null,
+        email varchar(255) not null unique,
+        name varchar(255) not null,
+        password_hash varchar(255) not null,
+        primary key (id)
+    );
+
+    create index idx_bookings_user_id 
+       on bookings (user_id);
+
+    create index idx_bookings_event_id 
+       on bookings (event_id);
+
+    create index idx_events_date 
+       on events (date);
+
+    create index idx_users_email 
+       on users (email);
+
+    alter table if exists bookings 
+       add constraint FK2ww82bk3npaiyu9oeehwtt2q3 
+       foreign key (event_id) 
+       references events;
+
+    alter table if exists bookings 
+       add constraint FKeyog2oic85xg7hsu2je2lx3s6 
+       foreign key (user_id) 
+       references users;
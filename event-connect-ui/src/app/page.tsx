@@ -12,6 +12,9 @@ export default function HomePage() {
   const [isLoading, setIsLoading] = useState(true);
   const [searchQuery, setSearchQuery] = useState('');
   const [selectedCategory, setSelectedCategory] = useState('');
+  const [activeQuery, setActiveQuery] = useState('');
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
   const categories = ['All', 'Music', 'Sports', 'Comedy', 'Theatre', 'Entertainment'];
 
@@ -20,17 +23,25 @@ export default function HomePage() {
     fetchTopEvents();
   }, []);
 
+  // The API pages by cursor; each list holds the pages loaded so far and the cursor of the next one
+  const fetchPage = (category: string, query: string, after?: string) => {
+    if (query) {
+      return api.searchEvents(query, after);
+    }
+    if (category && category !== 'All') {
+      return api.getEventsByCategory(category, after);
+    }
+    return api.getEvents(after);
+  };
+
   const fetchEvents = async (category?: string) => {
     setIsLoading(true);
+    setActiveQuery('');
     try {
-      let response;
-      if (category && category !== 'All') {
-        response = await api.getEventsByCategory(category);
-      } else {
-        response = await api.getEvents();
-      }
+      const response = await fetchPage(category ?? '', '');
       if (response.success && response.data) {
         setEvents(response.data);
+        setNextCursor(response.nextCursor);
       }
     } catch (error) {
       console.error('Failed to fetch events:', error);
@@ -57,10 +68,12 @@ export default function HomePage() {
       return;
     }
     setIsLoading(true);
+    setActiveQuery(searchQuery);
     try {
-      const response = await api.searchEvents(searchQuery);
+      const response = await fetchPage(selectedCategory, searchQuery);
       if (response.success && response.data) {
         setEvents(response.data);
+        setNextCursor(response.nextCursor);
       }
     } catch (error) {
       console.error('Search failed:', error);
@@ -69,6 +82,25 @@ export default function HomePage() {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor) {
+      return;
+    }
+    setIsLoadingMore(true);
+    try {
+      const response = await fetchPage(selectedCategory, activeQuery, nextCursor);
+      if (response.success && response.data) {
+        const page = response.data;
+        setEvents((loaded) => [...loaded, ...page]);
+        setNextCursor(response.nextCursor);
+      }
+    } catch (error) {
+      console.error('Failed to load more events:', error);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const handleCategoryChange = (category: string) => {
     setSelectedCategory(category);
     setSearchQuery('');
@@ -178,6 +210,19 @@ export default function HomePage() {
             ))}
           </div>
         )}
+
+        {/* Load More */}
+        {!isLoading && nextCursor && (
+          <div className="flex justify-center mt-10">
+            <button
+              onClick={loadMore}
+              disabled={isLoadingMore}
+              className="px-8 py-3 rounded-xl font-semibold border border-border bg-muted/30 text-foreground hover:bg-muted hover:border-primary/50 transition-all disabled:opacity-50"
+            >
+              {isLoadingMore ? 'Loading...' : 'Load more events'}
+            </button>
+          </div>
+        )}
       </section>
     </div>
   );
@@ -1,6 +1,7 @@
 import { ApiResponse, AuthResponse, Booking, BookingRequest, Event, LoginRequest, SignupRequest } from './types';
 
 const API_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080';
+const PAGE_SIZE = 24;
 
 class ApiClient {
     private getToken(): string | null {
@@ -42,6 +43,12 @@ class ApiClient {
         }
     }
 
+    // List endpoints return one page of at most `limit` items; pass nextCursor back as `after` for the next
+    private pageQuery(after?: string): string {
+        const cursor = after ? `&after=${encodeURIComponent(after)}` : '';
+        return `limit=${PAGE_SIZE}${cursor}`;
+    }
+
     // Auth endpoints
     async login(credentials: LoginRequest): Promise<ApiResponse<AuthResponse>> {
         return this.request<AuthResponse>('/api/auth/login', {
@@ -58,8 +65,8 @@ class ApiClient {
     }
 
     // Event endpoints
-    async getEvents(): Promise<ApiResponse<Event[]>> {
-        return this.request<Event[]>('/api/events');
+    async getEvents(after?: string): Promise<ApiResponse<Event[]>> {
+        return this.request<Event[]>(`/api/events?${this.pageQuery(after)}`);
     }
 
     async getTopEvents(): Promise<ApiResponse<Event[]>> {
@@ -70,12 +77,12 @@ class ApiClient {
         return this.request<Event>(`/api/events/${id}`);
     }
 
-    async searchEvents(query: string): Promise<ApiResponse<Event[]>> {
-        return this.request<Event[]>(`/api/events/search?query=${encodeURIComponent(query)}`);
+    async searchEvents(query: string, after?: string): Promise<ApiResponse<Event[]>> {
+        return this.request<Event[]>(`/api/events/search?query=${encodeURIComponent(query)}&${this.pageQuery(after)}`);
     }
 
-    async getEventsByCategory(category: string): Promise<ApiResponse<Event[]>> {
-        return this.request<Event[]>(`/api/events/category/${encodeURIComponent(category)}`);
+    async getEventsByCategory(category: string, after?: string): Promise<ApiResponse<Event[]>> {
+        return this.request<Event[]>(`/api/events/category/${encodeURIComponent(category)}?${this.pageQuery(after)}`);
     }
 
     // Booking endpoints
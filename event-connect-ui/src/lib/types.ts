@@ -45,6 +45,7 @@ export interface ApiResponse<T> {
   success: boolean;
   message?: string;
   data?: T;
+  nextCursor?: string;
 }
 
 export interface LoginRequest {